@@ -0,0 +1,69 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.contract.AddressCache;
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.Base58;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes inputs of the size of a NEO address (25 bytes) and converts between
+ * addresses and script hashes with and without a cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Base58Benchmark {
+
+    private byte[] decoded;
+    private String encoded;
+    private ScriptHash scriptHash;
+    private String address;
+    private AddressCache addressCache;
+
+    @Setup
+    public void setUp() {
+        decoded = BenchmarkData.randomBytes(25);
+        encoded = Base58.encode(decoded);
+        scriptHash = new ScriptHash(BenchmarkData.randomBytes(20));
+        address = scriptHash.toAddress();
+        addressCache = new AddressCache(1000);
+    }
+
+    @Benchmark
+    public String encode() {
+        return Base58.encode(decoded);
+    }
+
+    @Benchmark
+    public byte[] decode() {
+        return Base58.decode(encoded);
+    }
+
+    @Benchmark
+    public String toAddress() {
+        return scriptHash.toAddress();
+    }
+
+    @Benchmark
+    public ScriptHash fromAddress() {
+        return ScriptHash.fromAddress(address);
+    }
+
+    @Benchmark
+    public String toAddressCached() {
+        return addressCache.toAddress(scriptHash);
+    }
+
+    @Benchmark
+    public ScriptHash fromAddressCached() {
+        return addressCache.toScriptHash(address);
+    }
+}
@@ -0,0 +1,48 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.Witness;
+import io.neow3j.utils.Numeric;
+
+import java.util.Random;
+
+/**
+ * Fixed inputs shared by the benchmarks, so that their results are comparable between runs.
+ */
+final class BenchmarkData {
+
+    static final String PRIVATE_KEY =
+            "84180ac9d6eb6fba207ea4ef9d2200102d1ebeb4b9c07e2c6a738a42742e27a5";
+
+    private BenchmarkData() {
+    }
+
+    static ECKeyPair keyPair() {
+        return ECKeyPair.create(Numeric.hexStringToByteArray(PRIVATE_KEY));
+    }
+
+    static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Creates a signed transaction with a script of the given size.
+     */
+    static Transaction transaction(int scriptSize) {
+        ECKeyPair keyPair = keyPair();
+        Transaction tx = new Transaction.Builder()
+                .nonce(1234L)
+                .validUntilBlock(2_000_000L)
+                .sender(ScriptHash.fromAddress(keyPair.getAddress()))
+                .systemFee(9_007_990L)
+                .networkFee(1_230_610L)
+                .script(randomBytes(scriptSize))
+                .build();
+        tx.addWitness(Witness.createWitness(tx.getHashData(), keyPair));
+        return tx;
+    }
+}
@@ -0,0 +1,39 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.crypto.Hash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HashBenchmark {
+
+    @Param({"32", "1024"})
+    public int inputSize;
+
+    private byte[] input;
+
+    @Setup
+    public void setUp() {
+        input = BenchmarkData.randomBytes(inputSize);
+    }
+
+    @Benchmark
+    public byte[] sha256() {
+        return Hash.sha256(input);
+    }
+
+    @Benchmark
+    public byte[] ripemd160() {
+        return Hash.ripemd160(input);
+    }
+}
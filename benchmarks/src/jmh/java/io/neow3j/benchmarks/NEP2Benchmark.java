@@ -0,0 +1,41 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.NEP2;
+import io.neow3j.crypto.exceptions.CipherException;
+import io.neow3j.crypto.exceptions.NEP2InvalidFormat;
+import io.neow3j.crypto.exceptions.NEP2InvalidPassphrase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decrypts a NEP-2 key with the default scrypt parameters, i.e., the cost of opening a wallet
+ * account.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NEP2Benchmark {
+
+    private static final String PASSWORD = "neo";
+
+    private String nep2;
+
+    @Setup
+    public void setUp() throws CipherException {
+        nep2 = NEP2.encrypt(PASSWORD, BenchmarkData.keyPair());
+    }
+
+    @Benchmark
+    public ECKeyPair decrypt() throws NEP2InvalidFormat, CipherException,
+            NEP2InvalidPassphrase {
+        return NEP2.decrypt(PASSWORD, nep2);
+    }
+}
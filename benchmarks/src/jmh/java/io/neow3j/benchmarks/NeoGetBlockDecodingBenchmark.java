@@ -0,0 +1,73 @@
+package io.neow3j.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes a {@code getblock} response with the given number of transactions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NeoGetBlockDecodingBenchmark {
+
+    private static final String HASH =
+            "0x7b0a2e6b1c49a4f0ef1cc4e6c8d8e3bf8fa5e2f2a1f4c8e8c3b1d0a9e8f7c6b5";
+
+    @Param({"500"})
+    public int transactions;
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private byte[] response;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{")
+                .append("\"hash\":\"").append(HASH).append("\",\"size\":").append(transactions * 250)
+                .append(",\"version\":0,\"previousblockhash\":\"").append(HASH)
+                .append("\",\"merkleroot\":\"").append(HASH).append("\",\"time\":1590000000000")
+                .append(",\"index\":1000,\"nextconsensus\":\"AZ81H31DMWzbSnFDLFkzh9vHwaDLayV7fU\"")
+                .append(",\"witnesses\":[").append(witness()).append("],")
+                .append("\"consensus_data\":{\"primary\":0,\"nonce\":\"0000000000000457\"},")
+                .append("\"tx\":[");
+        for (int i = 0; i < transactions; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"hash\":\"").append(HASH).append("\",\"size\":252,\"version\":0,")
+                    .append("\"nonce\":").append(i).append(",")
+                    .append("\"sender\":\"AHE5cLhX5NjGB5R2PcdUvGudUoGUBDeHX4\",")
+                    .append("\"sys_fee\":\"9007990\",\"net_fee\":\"1230610\",")
+                    .append("\"valid_until_block\":2000000,\"attributes\":[],")
+                    .append("\"script\":\"AGQMFBfhXnk7QkQ8nyjx1ZwVHuMzhc0MFN5p5rHSfsQ8aKhbXUbD")
+                    .append("2B6XKq6DE8MCHRyYW5zZmVyDBQlBZ7LSHjTqHX5HFHO3tMw1Fdf3kFifVtSOA==\",")
+                    .append("\"witnesses\":[").append(witness()).append("]}");
+        }
+        json.append("],\"confirmations\":10,\"nextblockhash\":\"").append(HASH).append("\"}}");
+        response = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String witness() {
+        return "{\"invocation\":\"DEDtS0BQuSQDd1bKlnyAkArk2BUXTKqW1a2yzVKAGyVU7g2blSwJ0FMwVkQIG"
+                + "ePwVv0m6CTwUm5sDaVqhBlkPGQA\",\"verification\":\"EQwhAqNwTu8X7bj0k5JBXgK6EqYp"
+                + "LgzBFUHo4kUhBGbpwt3+EQtBE43vrw==\"}";
+    }
+
+    @Benchmark
+    public NeoGetBlock decode() throws IOException {
+        return objectMapper.readValue(response, NeoGetBlock.class);
+    }
+}
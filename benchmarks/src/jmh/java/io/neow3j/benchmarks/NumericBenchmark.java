@@ -0,0 +1,48 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.utils.Numeric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NumericBenchmark {
+
+    @Param({"20", "1024"})
+    public int size;
+
+    private byte[] bytes;
+    private String hex;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        bytes = BenchmarkData.randomBytes(size);
+        hex = Numeric.toHexStringNoPrefix(bytes);
+        json = "{\"script\":\"0x" + hex + "\"}";
+    }
+
+    @Benchmark
+    public byte[] hexStringToByteArray() {
+        return Numeric.hexStringToByteArray(hex);
+    }
+
+    @Benchmark
+    public byte[] hexStringToByteArrayFromRange() {
+        return Numeric.hexStringToByteArray(json, 11, json.length() - 2);
+    }
+
+    @Benchmark
+    public String toHexString() {
+        return Numeric.toHexString(bytes);
+    }
+}
@@ -0,0 +1,43 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.contract.ContractParameter;
+import io.neow3j.contract.ScriptBuilder;
+import io.neow3j.contract.ScriptHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the script of a NEP-5 transfer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScriptBuilderBenchmark {
+
+    private ScriptHash contract;
+    private List<ContractParameter> params;
+
+    @Setup
+    public void setUp() {
+        contract = new ScriptHash("9bde8f209c88dd0e7ca3bf0af0f476cdd8207789");
+        ScriptHash from = new ScriptHash("0f2b7a6b3f8b0d3d5a3a0ea2a0b0c0d0e0f01234");
+        ScriptHash to = new ScriptHash("1a2b3c4d5e6f708192a3b4c5d6e7f80910111213");
+        params = Arrays.asList(ContractParameter.hash160(from), ContractParameter.hash160(to),
+                ContractParameter.integer(BigInteger.valueOf(100_000_000L)));
+    }
+
+    @Benchmark
+    public byte[] contractCall() {
+        return new ScriptBuilder().contractCall(contract, "transfer", params).toArray();
+    }
+}
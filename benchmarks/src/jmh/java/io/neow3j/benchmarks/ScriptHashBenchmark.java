@@ -0,0 +1,64 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.contract.ScriptHashLongMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up the balances of 100,000 accounts in a <tt>HashMap</tt> and in a
+ * {@link ScriptHashLongMap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScriptHashBenchmark {
+
+    private static final int ACCOUNTS = 100_000;
+
+    private ScriptHash[] scriptHashes;
+    private Map<ScriptHash, Long> hashMap;
+    private ScriptHashLongMap scriptHashLongMap;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        scriptHashes = new ScriptHash[ACCOUNTS];
+        hashMap = new HashMap<>();
+        scriptHashLongMap = new ScriptHashLongMap(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            scriptHashes[i] = new ScriptHash(BenchmarkData.randomBytes(20));
+            hashMap.put(scriptHashes[i], (long) i);
+            scriptHashLongMap.put(scriptHashes[i], i);
+        }
+    }
+
+    private ScriptHash nextScriptHash() {
+        next = (next + 1) % ACCOUNTS;
+        return scriptHashes[next];
+    }
+
+    @Benchmark
+    public long hashMapGet() {
+        return hashMap.get(nextScriptHash());
+    }
+
+    @Benchmark
+    public long scriptHashLongMapGet() {
+        return scriptHashLongMap.getOrDefault(nextScriptHash(), 0);
+    }
+
+    @Benchmark
+    public String scriptHashToString() {
+        return nextScriptHash().toString();
+    }
+}
@@ -0,0 +1,58 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.Hash;
+import io.neow3j.transaction.SigningService;
+import io.neow3j.transaction.Witness;
+import io.neow3j.transaction.WitnessVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SigningBenchmark {
+
+    private ECKeyPair keyPair;
+    private byte[] message;
+    private SigningService signingService;
+    private WitnessVerifier witnessVerifier;
+    private Witness witness;
+
+    @Setup
+    public void setUp() {
+        keyPair = BenchmarkData.keyPair();
+        message = Hash.sha256(BenchmarkData.randomBytes(128));
+        signingService = new SigningService();
+        witnessVerifier = new WitnessVerifier();
+        witness = Witness.createWitness(message, keyPair);
+    }
+
+    @Benchmark
+    public BigInteger[] sign() {
+        return keyPair.sign(message);
+    }
+
+    @Benchmark
+    public Witness createWitness() {
+        return Witness.createWitness(message, keyPair);
+    }
+
+    @Benchmark
+    public Witness signingService() {
+        return signingService.sign(message, keyPair);
+    }
+
+    @Benchmark
+    public boolean witnessVerifier() {
+        return witnessVerifier.verify(message, witness);
+    }
+}
@@ -0,0 +1,48 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.io.NeoSerializableInterface;
+import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.transaction.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionBenchmark {
+
+    @Param({"64", "1024"})
+    public int scriptSize;
+
+    private Transaction transaction;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        transaction = BenchmarkData.transaction(scriptSize);
+        serialized = transaction.toArray();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return transaction.toArray();
+    }
+
+    @Benchmark
+    public Transaction deserialize() throws DeserializationException {
+        return NeoSerializableInterface.from(serialized, Transaction.class);
+    }
+
+    @Benchmark
+    public String getTxId() {
+        return transaction.getTxId();
+    }
+}
@@ -0,0 +1,108 @@
+package io.neow3j.contract;
+
+import io.neow3j.constants.FeeTable;
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.constants.OpCode;
+import io.neow3j.io.IOUtils;
+import io.neow3j.transaction.VerificationScript;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A snapshot of the network fee policy that is used to calculate network fees offline, i.e.,
+ * without calls to the neo-node.
+ * <p>
+ * The size and verification cost of the witness of each verification script are calculated once
+ * and reused. Share one instance between {@link Invocation.Builder}s to avoid recalculating them
+ * for every invocation.
+ */
+public class FeePolicy {
+
+    private final long feePerByte;
+    private final Map<ByteBuffer, WitnessCost> witnessCosts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a fee policy with the default fee per transaction byte
+     * ({@link NeoConstants#GAS_PER_BYTE}).
+     */
+    public FeePolicy() {
+        this(NeoConstants.GAS_PER_BYTE);
+    }
+
+    /**
+     * Creates a fee policy with the given fee per transaction byte.
+     *
+     * @param feePerByte the network fee per transaction byte in fractions of GAS.
+     */
+    public FeePolicy(long feePerByte) {
+        if (feePerByte < 0) {
+            throw new IllegalArgumentException("The fee per byte must not be negative.");
+        }
+        this.feePerByte = feePerByte;
+    }
+
+    /**
+     * Gets the network fee per transaction byte.
+     *
+     * @return the fee per byte in fractions of GAS.
+     */
+    public long getFeePerByte() {
+        return feePerByte;
+    }
+
+    /**
+     * Calculates the network fee of a transaction. The fee consists of the cost per transaction
+     * byte and the cost for signature verification. Since the transaction is not signed yet, the
+     * calculation works with the expected witnesses of the given verification scripts.
+     *
+     * @param sizeWithoutWitnesses the size of the transaction without the witnesses and without
+     *                             the number of witnesses.
+     * @param verificationScripts  the verification scripts of all accounts that have to sign the
+     *                             transaction.
+     * @return the network fee in fractions of GAS.
+     */
+    public long calcNetworkFee(int sizeWithoutWitnesses,
+            List<VerificationScript> verificationScripts) {
+
+        long size = sizeWithoutWitnesses + IOUtils.getVarSize(verificationScripts.size());
+        long execFee = 0;
+        for (VerificationScript script : verificationScripts) {
+            WitnessCost cost = witnessCosts.computeIfAbsent(ByteBuffer.wrap(script.getScript()),
+                    k -> WitnessCost.of(script));
+            size += cost.size;
+            execFee += cost.execFee;
+        }
+        return execFee + size * feePerByte;
+    }
+
+    private static class WitnessCost {
+
+        private final long size;
+        private final long execFee;
+
+        private WitnessCost(long size, long execFee) {
+            this.size = size;
+            this.execFee = execFee;
+        }
+
+        private static WitnessCost of(VerificationScript verifScript) {
+            if (verifScript.isMultiSigScript()) {
+                int m = verifScript.getSigningThreshold();
+                int sizeInvocScript = NeoConstants.INVOCATION_SCRIPT_SIZE * m;
+                long size = IOUtils.getVarSize(sizeInvocScript) + sizeInvocScript
+                        + verifScript.getSize();
+                // Push the signatures and run the verification script.
+                long execFee = OpCode.PUSHDATA1.getPrice() * m
+                        + FeeTable.calcExecutionFee(verifScript.getScript());
+                return new WitnessCost(size, execFee);
+            }
+            long size = NeoConstants.SERIALIZED_INVOCATION_SCRIPT_SIZE + verifScript.getSize();
+            // Push the signature and run the verification script.
+            long execFee = OpCode.PUSHDATA1.getPrice()
+                    + FeeTable.calcExecutionFee(verifScript.getScript());
+            return new WitnessCost(size, execFee);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package io.neow3j.contract;
 
-import io.neow3j.constants.InteropServiceCode;
 import io.neow3j.constants.NeoConstants;
 import io.neow3j.constants.OpCode;
 import io.neow3j.contract.exceptions.InvocationConfigurationException;
@@ -21,6 +20,7 @@ import io.neow3j.transaction.Witness;
 import io.neow3j.utils.Numeric;
 import io.neow3j.wallet.Account;
 import io.neow3j.wallet.Wallet;
+import io.neow3j.wallet.exceptions.AccountStateException;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -208,6 +208,9 @@ public class Invocation {
 
     public static class Builder {
 
+        private static final SystemFeeEstimator DEFAULT_SYSTEM_FEE_ESTIMATOR =
+                new SystemFeeEstimator();
+
         private long additionalNetworkFee;
         protected Neow3j neow;
         protected Wallet wallet;
@@ -217,6 +220,11 @@ public class Invocation {
         protected Transaction.Builder txBuilder;
         protected Transaction transaction;
         protected boolean failOnFalse;
+        private Long blockCount;
+        private Long systemFee;
+        private FeePolicy feePolicy;
+        private SystemFeeCache systemFeeCache;
+        private SystemFeeEstimator systemFeeEstimator;
 
         // TODO: Add javadoc.
         protected Builder(Neow3j neow) {
@@ -226,6 +234,7 @@ public class Invocation {
             this.txBuilder = new Transaction.Builder();
             this.contractParams = new ArrayList<>();
             this.neow = neow;
+            this.systemFeeEstimator = DEFAULT_SYSTEM_FEE_ESTIMATOR;
         }
 
         /**
@@ -253,6 +262,20 @@ public class Invocation {
             return this;
         }
 
+        /**
+         * Configures the invocation to use the given block count instead of fetching it from the
+         * neo-node when setting the default valid until block.
+         *
+         * @param blockCount The current block count, e.g., as cached from a previous
+         *                   <tt>getblockcount</tt> call.
+         * @return this.
+         * @see Invocation.Builder#withValidUntilBlock(long)
+         */
+        public Builder withBlockCount(long blockCount) {
+            this.blockCount = blockCount;
+            return this;
+        }
+
         /**
          * Configures the invocation with the given nonce. 
          * <p>
@@ -280,6 +303,61 @@ public class Invocation {
             return this;
         }
 
+        /**
+         * Configures the invocation with the given system fee instead of fetching it from the
+         * neo-node with an <tt>invokescript</tt> call.
+         *
+         * @param fee The system fee in fractions of GAS.
+         * @return this.
+         */
+        public Builder withSystemFee(long fee) {
+            this.systemFee = fee;
+            return this;
+        }
+
+        /**
+         * Configures the invocation to look up its system fee in the given cache. The fee is only
+         * estimated or fetched from the neo-node if the cache does not hold it yet. Fetched fees
+         * are added to the cache.
+         * <p>
+         * Has no effect if the system fee is set via {@link Builder#withSystemFee(long)}.
+         *
+         * @param systemFeeCache The system fee cache.
+         * @return this.
+         */
+        public Builder withSystemFeeCache(SystemFeeCache systemFeeCache) {
+            this.systemFeeCache = systemFeeCache;
+            return this;
+        }
+
+        /**
+         * Configures the invocation to estimate its system fee with the given estimator. The fee
+         * is only fetched from the neo-node if the estimator does not support the script.
+         * <p>
+         * By default, an estimator that knows the prices of the native contract methods is used.
+         * Set the estimator to null to always fetch the system fee from the neo-node.
+         *
+         * @param systemFeeEstimator The system fee estimator.
+         * @return this.
+         */
+        public Builder withSystemFeeEstimator(SystemFeeEstimator systemFeeEstimator) {
+            this.systemFeeEstimator = systemFeeEstimator;
+            return this;
+        }
+
+        /**
+         * Configures the invocation to calculate the network fee with the given fee policy.
+         * <p>
+         * By default, a policy with the fee per byte of {@link NeoConstants#GAS_PER_BYTE} is used.
+         *
+         * @param feePolicy The fee policy.
+         * @return this.
+         */
+        public Builder withFeePolicy(FeePolicy feePolicy) {
+            this.feePolicy = feePolicy;
+            return this;
+        }
+
         /**
          * Configures the invocation to use the given wallet.
          * <p>
@@ -437,6 +515,10 @@ public class Invocation {
         /**
          * Builds the invocation, enforces correct configuration, fetches the system fee and
          * calculates the network fee.
+         * <p>
+         * No calls to the neo-node are made if the valid until block or the block count is
+         * configured and the system fee is configured, cached or can be estimated offline. This
+         * allows building invocations entirely in memory.
          *
          * @return the <tt>Invocation</tt> ready for signing and sending.
          * @throws IOException if something goes wrong when communicating with the neo-node.
@@ -452,7 +534,7 @@ public class Invocation {
                 // it being over the max. Therefore, we decrement it by 1, to make sure that
                 // the node doesn't reject the transaction.
                 this.txBuilder.validUntilBlock(
-                        fetchCurrentBlockNr() + NeoConstants.MAX_VALID_UNTIL_BLOCK_INCREMENT - 1);
+                        getCurrentBlockNr() + NeoConstants.MAX_VALID_UNTIL_BLOCK_INCREMENT - 1);
             }
             if (this.txBuilder.getSender() == null) {
                 // If sender is not set explicitly set it to the default account of the wallet.
@@ -498,21 +580,51 @@ public class Invocation {
                     .anyMatch(c -> c.getScriptHash().equals(this.txBuilder.getSender()));
         }
 
-        private long fetchCurrentBlockNr() throws IOException {
+        private long getCurrentBlockNr() throws IOException {
+            if (this.blockCount != null) {
+                return this.blockCount;
+            }
             return neow.getBlockCount().send().getBlockIndex().longValue();
         }
 
         /*
-         * Fetches the GAS consumed by this invocation. It does this by making an RPC call to the
-         * Neo node. The returned GAS amount is in fractions of GAS (10^-8).
+         * Gets the GAS consumed by this invocation. If it is neither configured nor cached, it is
+         * estimated offline. Only if the script is not supported by the estimator, it is fetched
+         * by making an RPC call to the Neo node. The returned GAS amount is in fractions of GAS
+         * (10^-8).
          */
         private long getSystemFeeForScript() throws IOException {
+            if (this.systemFee != null) {
+                return this.systemFee;
+            }
+            List<ScriptHash> signers = this.txBuilder.getCosigners().stream()
+                    .map(Cosigner::getScriptHash).collect(Collectors.toList());
+            if (this.systemFeeCache != null) {
+                Long cachedFee = this.systemFeeCache.get(this.txBuilder.getScript(), signers);
+                if (cachedFee != null) {
+                    return cachedFee;
+                }
+            }
+            if (this.systemFeeEstimator != null) {
+                Long estimatedFee = this.systemFeeEstimator.estimate(this.txBuilder.getScript());
+                if (estimatedFee != null) {
+                    return estimatedFee;
+                }
+            }
+            long fee = fetchSystemFeeForScript(signers);
+            if (this.systemFeeCache != null) {
+                this.systemFeeCache.put(this.txBuilder.getScript(), signers, fee);
+            }
+            return fee;
+        }
+
+        private long fetchSystemFeeForScript(List<ScriptHash> signers) throws IOException {
             // The signers are required for `invokescript` calls that will hit a ChecekWitness
             // check in the smart contract.
-            String[] signers = this.txBuilder.getCosigners().stream()
-                    .map(c -> c.getScriptHash().toString()).toArray(String[]::new);
+            String[] signerStrings = signers.stream()
+                    .map(ScriptHash::toString).toArray(String[]::new);
             String script = Numeric.toHexStringNoPrefix(this.txBuilder.getScript());
-            NeoInvokeScript response = neow.invokeScript(script, signers).send();
+            NeoInvokeScript response = neow.invokeScript(script, signerStrings).send();
             // The GAS amount is returned in fractions (10^8)
             return Long.parseLong(response.getInvocationResult().getGasConsumed());
         }
@@ -525,26 +637,21 @@ public class Invocation {
          * cosigners added to the transaction.
          */
         private long calcNetworkFee() {
-            List<Account> cosigAccs = getCosignerAccounts();
-
             // Base transaction size
             int size = Transaction.HEADER_SIZE // constant header size
                     + IOUtils.getVarSize(this.txBuilder.getAttributes()) // attributes
-                    + IOUtils.getVarSize(this.txBuilder.getScript()) // script
-                    + IOUtils.getVarSize(cosigAccs.size()); // varInt for all necessary witnesses
-
-            // Calculate fee for witness verification and collect size of witnesses.
-            int execFee = 0;
-            for (Account acc : cosigAccs) {
-                if (acc.isMultiSig()) {
-                    size += calcSizeForMultiSigWitness(acc.getVerificationScript());
-                    execFee += calcExecutionFeeForMultiSigWitness(acc.getVerificationScript());
-                } else {
-                    size += calcSizeForSingleSigWitness(acc.getVerificationScript());
-                    execFee += calcExecutionFeeForSingleSigWitness();
+                    + IOUtils.getVarSize(this.txBuilder.getScript()); // script
+
+            List<VerificationScript> verifScripts = new ArrayList<>();
+            for (Account acc : getCosignerAccounts()) {
+                if (acc.getVerificationScript() == null) {
+                    throw new AccountStateException("The account with script hash "
+                            + acc.getScriptHash() + " does not have a verification script.");
                 }
+                verifScripts.add(acc.getVerificationScript());
             }
-            return execFee + size * NeoConstants.GAS_PER_BYTE;
+            FeePolicy policy = this.feePolicy == null ? new FeePolicy() : this.feePolicy;
+            return policy.calcNetworkFee(size, verifScripts);
         }
 
         private List<Account> getCosignerAccounts() {
@@ -559,38 +666,5 @@ public class Invocation {
             }
             return accounts;
         }
-
-        private long calcSizeForSingleSigWitness(VerificationScript verifScript) {
-            return NeoConstants.SERIALIZED_INVOCATION_SCRIPT_SIZE + verifScript.getSize();
-        }
-
-        private long calcExecutionFeeForSingleSigWitness() {
-            return OpCode.PUSHDATA1.getPrice() // Push invocation script
-                    + OpCode.PUSHDATA1.getPrice() // Push verification script
-                    // Push null because we don't want to verify a particular message but the
-                    // transaction itself.
-                    + OpCode.PUSHNULL.getPrice()
-                    + InteropServiceCode.NEO_CRYPTO_ECDSA_SECP256R1_VERIFY.getPrice();
-        }
-
-        private long calcSizeForMultiSigWitness(VerificationScript verifScript) {
-            int m = verifScript.getSigningThreshold();
-            int sizeInvocScript = NeoConstants.INVOCATION_SCRIPT_SIZE * m;
-            return IOUtils.getVarSize(sizeInvocScript) + sizeInvocScript + verifScript.getSize();
-        }
-
-        private long calcExecutionFeeForMultiSigWitness(VerificationScript verifScript) {
-            int m = verifScript.getSigningThreshold();
-            int n = verifScript.getNrOfAccounts();
-
-            return OpCode.PUSHDATA1.getPrice() * m
-                    + OpCode.valueOf(new ScriptBuilder().pushInteger(m).toArray()[0]).getPrice()
-                    + OpCode.PUSHDATA1.getPrice() * n
-                    + OpCode.valueOf(new ScriptBuilder().pushInteger(n).toArray()[0]).getPrice()
-                    // Push null because we don't want to verify a particular message but the
-                    // transaction itself.
-                    + OpCode.PUSHNULL.getPrice()
-                    + InteropServiceCode.NEO_CRYPTO_ECDSA_SECP256R1_CHECKMULTISIG.getPrice(n);
-        }
     }
 }
@@ -0,0 +1,199 @@
+package io.neow3j.contract;
+
+import io.neow3j.constants.InteropServiceCode;
+import io.neow3j.constants.OpCode;
+import io.neow3j.contract.exceptions.InvocationConfigurationException;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.transaction.TransactionAllocator;
+import io.neow3j.wallet.Wallet;
+import java.util.Arrays;
+
+/**
+ * A template for repeated invocations of the same contract function with changing parameters.
+ * <p>
+ * The part of the script that calls the function is built once when the template is built. Each
+ * invocation only adds its parameters to it. If the template has a
+ * {@link TransactionAllocator}, the nonce and valid until block of the invocations are taken
+ * from it instead of fetching the block count from the neo-node every time.
+ */
+public class InvocationTemplate {
+
+    private final Neow3j neow;
+    private final Wallet wallet;
+    private final byte[] callScript;
+    private final TransactionAllocator allocator;
+    private final FeePolicy feePolicy;
+    private final SystemFeeCache systemFeeCache;
+
+    private InvocationTemplate(Builder builder) {
+        this.neow = builder.neow;
+        this.wallet = builder.wallet;
+        this.allocator = builder.allocator;
+        this.feePolicy = builder.feePolicy;
+        this.systemFeeCache = builder.systemFeeCache;
+        // The parameters come first in a contract call. Everything after them is the same for
+        // every invocation.
+        ScriptBuilder b = new ScriptBuilder()
+                .pushData(builder.function)
+                .pushData(builder.contract.toArray())
+                .sysCall(InteropServiceCode.SYSTEM_CONTRACT_CALL);
+        if (builder.failOnFalse) {
+            b.opCode(OpCode.ASSERT);
+        }
+        this.callScript = b.toArray();
+    }
+
+    /**
+     * Creates an invocation builder that calls the function of this template with the given
+     * parameters. The builder is configured with the settings of this template and can be
+     * configured further, e.g., with cosigners.
+     *
+     * @param parameters The contract parameters.
+     * @return the invocation builder.
+     * @throws IllegalStateException if the allocator of this template does not know the block
+     *                               count yet.
+     */
+    public Invocation.Builder invoke(ContractParameter... parameters) {
+        Invocation.Builder b = new Invocation.Builder(this.neow)
+                .withScript(buildScript(parameters))
+                .withWallet(this.wallet)
+                .withFeePolicy(this.feePolicy);
+        if (this.systemFeeCache != null) {
+            b.withSystemFeeCache(this.systemFeeCache);
+        }
+        if (this.allocator != null) {
+            b.withNonce(this.allocator.nextNonce())
+                    .withValidUntilBlock(this.allocator.nextValidUntilBlock());
+        }
+        return b;
+    }
+
+    /**
+     * Builds the script that calls the function of this template with the given parameters.
+     *
+     * @param parameters The contract parameters.
+     * @return the script.
+     */
+    public byte[] buildScript(ContractParameter... parameters) {
+        byte[] params = new ScriptBuilder().pushParams(Arrays.asList(parameters)).toArray();
+        byte[] script = Arrays.copyOf(params, params.length + this.callScript.length);
+        System.arraycopy(this.callScript, 0, script, params.length, this.callScript.length);
+        return script;
+    }
+
+    public static class Builder {
+
+        private final Neow3j neow;
+        private Wallet wallet;
+        private ScriptHash contract;
+        private String function;
+        private boolean failOnFalse;
+        private TransactionAllocator allocator;
+        private FeePolicy feePolicy;
+        private SystemFeeCache systemFeeCache;
+
+        public Builder(Neow3j neow) {
+            if (neow == null) {
+                throw new IllegalArgumentException("Neow3j instance must not be null.");
+            }
+            this.neow = neow;
+            this.feePolicy = new FeePolicy();
+        }
+
+        /**
+         * Configures the template to call the given contract.
+         *
+         * @param contract The script hash of the contract to call.
+         * @return this.
+         */
+        public Builder withContract(ScriptHash contract) {
+            this.contract = contract;
+            return this;
+        }
+
+        /**
+         * Configures the template to call the given function.
+         *
+         * @param function The contract function to call.
+         * @return this.
+         */
+        public Builder withFunction(String function) {
+            this.function = function;
+            return this;
+        }
+
+        /**
+         * Configures the invocations to use the given wallet.
+         *
+         * @param wallet The wallet.
+         * @return this.
+         * @see Invocation.Builder#withWallet(Wallet)
+         */
+        public Builder withWallet(Wallet wallet) {
+            this.wallet = wallet;
+            return this;
+        }
+
+        /**
+         * Configures the invocations to fail if the return value of the function is "False".
+         *
+         * @return this.
+         * @see Invocation.Builder#failOnFalse()
+         */
+        public Builder failOnFalse() {
+            this.failOnFalse = true;
+            return this;
+        }
+
+        /**
+         * Configures the invocations to take their nonce and valid until block from the given
+         * allocator.
+         *
+         * @param allocator The allocator.
+         * @return this.
+         */
+        public Builder withAllocator(TransactionAllocator allocator) {
+            this.allocator = allocator;
+            return this;
+        }
+
+        /**
+         * Configures the invocations to calculate the network fee with the given fee policy.
+         * <p>
+         * By default, all invocations of the template share one policy with the default fee per
+         * byte.
+         *
+         * @param feePolicy The fee policy.
+         * @return this.
+         * @see Invocation.Builder#withFeePolicy(FeePolicy)
+         */
+        public Builder withFeePolicy(FeePolicy feePolicy) {
+            this.feePolicy = feePolicy;
+            return this;
+        }
+
+        /**
+         * Configures the invocations to look up their system fee in the given cache.
+         *
+         * @param systemFeeCache The system fee cache.
+         * @return this.
+         * @see Invocation.Builder#withSystemFeeCache(SystemFeeCache)
+         */
+        public Builder withSystemFeeCache(SystemFeeCache systemFeeCache) {
+            this.systemFeeCache = systemFeeCache;
+            return this;
+        }
+
+        public InvocationTemplate build() {
+            if (this.contract == null) {
+                throw new InvocationConfigurationException("The template requires a contract to "
+                        + "call.");
+            }
+            if (this.function == null) {
+                throw new InvocationConfigurationException("The template requires a function to "
+                        + "call.");
+            }
+            return new InvocationTemplate(this);
+        }
+    }
+}
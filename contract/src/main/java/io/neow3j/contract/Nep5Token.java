@@ -15,12 +15,12 @@ import java.math.BigInteger;
  */
 public class Nep5Token extends SmartContract {
 
-    private static final String NEP5_NAME = "name";
-    private static final String NEP5_TOTAL_SUPPLY = "totalSupply";
-    private static final String NEP5_SYMBOL = "symbol";
-    private static final String NEP5_DECIMALS = "decimals";
-    private static final String NEP5_BALANCE_OF = "balanceOf";
-    private static final String NEP5_TRANSFER = "transfer";
+    static final String NEP5_NAME = "name";
+    static final String NEP5_TOTAL_SUPPLY = "totalSupply";
+    static final String NEP5_SYMBOL = "symbol";
+    static final String NEP5_DECIMALS = "decimals";
+    static final String NEP5_BALANCE_OF = "balanceOf";
+    static final String NEP5_TRANSFER = "transfer";
 
     private String name;
     // It is expected that Nep5 contracts return the total supply in fractions of their token.
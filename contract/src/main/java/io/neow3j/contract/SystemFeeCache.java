@@ -0,0 +1,57 @@
+package io.neow3j.contract;
+
+import io.neow3j.constants.NeoConstants;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the system fees of invocation scripts, so that invocations of the same script with the
+ * same signers don't have to be run on the neo-node with <tt>invokescript</tt> every time.
+ * <p>
+ * Only use this cache for scripts whose GAS consumption doesn't depend on the blockchain state,
+ * e.g., transfers of a fixed amount. The cached fees are kept until {@link #clear()} is called.
+ */
+public class SystemFeeCache {
+
+    private final Map<ByteBuffer, Long> fees = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the cached system fee of the given script.
+     *
+     * @param script  the invocation script.
+     * @param signers the script hashes of the signers the script is invoked with.
+     * @return the system fee in fractions of GAS or null if no fee is cached for the script.
+     */
+    public Long get(byte[] script, List<ScriptHash> signers) {
+        return fees.get(key(script, signers));
+    }
+
+    /**
+     * Caches the system fee of the given script.
+     *
+     * @param script    the invocation script.
+     * @param signers   the script hashes of the signers the script is invoked with.
+     * @param systemFee the system fee in fractions of GAS.
+     */
+    public void put(byte[] script, List<ScriptHash> signers, long systemFee) {
+        fees.put(key(script, signers), systemFee);
+    }
+
+    /**
+     * Removes all cached system fees.
+     */
+    public void clear() {
+        fees.clear();
+    }
+
+    private static ByteBuffer key(byte[] script, List<ScriptHash> signers) {
+        ByteBuffer key = ByteBuffer.allocate(
+                script.length + signers.size() * NeoConstants.SCRIPTHASH_SIZE);
+        key.put(script);
+        signers.forEach(s -> key.put(s.toArray()));
+        key.flip();
+        return key;
+    }
+}
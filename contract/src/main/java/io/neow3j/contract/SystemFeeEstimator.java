@@ -0,0 +1,159 @@
+package io.neow3j.contract;
+
+import io.neow3j.constants.FeeTable;
+import io.neow3j.constants.InteropServiceCode;
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.constants.OpCode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates the system fee of invocation scripts offline, i.e., without running them on the
+ * neo-node with <tt>invokescript</tt>.
+ * <p>
+ * Only straight-line scripts, like the ones built by {@link ScriptBuilder}, are supported. The
+ * price of every instruction is taken from {@link FeeTable}. For every contract call, the price of
+ * the called method has to be known. The prices of the methods of {@link NeoToken} and
+ * {@link GasToken} that don't depend on the blockchain state are known by default. Further methods
+ * can be added with {@link #withMethodPrice(ScriptHash, String, long)}.
+ */
+public class SystemFeeEstimator {
+
+    private static final Map<ByteBuffer, Long> NATIVE_METHOD_PRICES = new HashMap<>();
+
+    static {
+        for (ScriptHash token : Arrays.asList(NeoToken.SCRIPT_HASH, GasToken.SCRIPT_HASH)) {
+            NATIVE_METHOD_PRICES.put(key(token, Nep5Token.NEP5_NAME), 0L);
+            NATIVE_METHOD_PRICES.put(key(token, Nep5Token.NEP5_SYMBOL), 0L);
+            NATIVE_METHOD_PRICES.put(key(token, Nep5Token.NEP5_DECIMALS), 0L);
+            NATIVE_METHOD_PRICES.put(key(token, Nep5Token.NEP5_TOTAL_SUPPLY), 1_000_000L);
+            NATIVE_METHOD_PRICES.put(key(token, Nep5Token.NEP5_BALANCE_OF), 1_000_000L);
+            NATIVE_METHOD_PRICES.put(key(token, Nep5Token.NEP5_TRANSFER), 8_000_000L);
+        }
+        NATIVE_METHOD_PRICES.put(key(NeoToken.SCRIPT_HASH, NeoToken.UNCLAIMED_GAS), 3_000_000L);
+        NATIVE_METHOD_PRICES.put(key(NeoToken.SCRIPT_HASH, NeoToken.REGISTER_CANDIDATE),
+                5_000_000L);
+        NATIVE_METHOD_PRICES.put(key(NeoToken.SCRIPT_HASH, NeoToken.VOTE), 500_000_000L);
+    }
+
+    private final Map<ByteBuffer, Long> methodPrices = new ConcurrentHashMap<>(
+            NATIVE_METHOD_PRICES);
+
+    /**
+     * Adds the price of a contract method. Only add methods whose GAS consumption doesn't depend
+     * on their parameters or on the blockchain state.
+     *
+     * @param contract The script hash of the contract.
+     * @param method   The method name.
+     * @param price    The price in fractions of GAS for executing the method, excluding the
+     *                 price of {@link InteropServiceCode#SYSTEM_CONTRACT_CALL}.
+     * @return this.
+     */
+    public SystemFeeEstimator withMethodPrice(ScriptHash contract, String method, long price) {
+        if (price < 0) {
+            throw new IllegalArgumentException("The price of a method must not be negative.");
+        }
+        methodPrices.put(key(contract, method), price);
+        return this;
+    }
+
+    /**
+     * Estimates the system fee of the given script.
+     *
+     * @param script The invocation script.
+     * @return the system fee in fractions of GAS or null if the script is not supported, e.g.,
+     * because it calls a method with an unknown price or contains jumps.
+     */
+    public Long estimate(byte[] script) {
+        long fee = 0;
+        // The operands of the last two instructions if they pushed data.
+        byte[] lastData = null;
+        byte[] secondLastData = null;
+        int pos = 0;
+        try {
+            while (pos < script.length) {
+                OpCode opCode = OpCode.valueOf(script[pos]);
+                if (isBranch(opCode)) {
+                    return null;
+                }
+                fee += FeeTable.getPrice(script[pos]);
+                pos++;
+                if (opCode == OpCode.RET) {
+                    // The rest of the script is not executed.
+                    break;
+                }
+                int operandSize = opCode.getOperandSize();
+                int prefixSize = opCode.getOperandSizePrefix();
+                if (prefixSize > 0) {
+                    operandSize = readOperandSize(script, pos, prefixSize);
+                    pos += prefixSize;
+                }
+                if (operandSize < 0 || operandSize > script.length - pos) {
+                    return null;
+                }
+                byte[] data = null;
+                if (opCode == OpCode.SYSCALL) {
+                    InteropServiceCode service = InteropServiceCode.valueOfHash(script, pos);
+                    fee += service.getPrice();
+                    if (service == InteropServiceCode.SYSTEM_CONTRACT_CALL) {
+                        Long methodPrice = getMethodPrice(lastData, secondLastData);
+                        if (methodPrice == null) {
+                            return null;
+                        }
+                        fee += methodPrice;
+                    }
+                } else if (prefixSize > 0) {
+                    data = Arrays.copyOfRange(script, pos, pos + operandSize);
+                }
+                secondLastData = lastData;
+                lastData = data;
+                pos += operandSize;
+            }
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            // Unknown opcodes and interop services or interop services with a dynamic price.
+            return null;
+        }
+        return fee;
+    }
+
+    // A contract call pushes the method name and then the contract hash right before the
+    // syscall.
+    private Long getMethodPrice(byte[] contract, byte[] method) {
+        if (contract == null || method == null
+                || contract.length != NeoConstants.SCRIPTHASH_SIZE) {
+            return null;
+        }
+        ByteBuffer key = ByteBuffer.allocate(contract.length + method.length);
+        key.put(contract).put(method).flip();
+        return methodPrices.get(key);
+    }
+
+    private static boolean isBranch(OpCode opCode) {
+        return opCode.getValue() >= OpCode.JMP.getValue()
+                && opCode.getValue() <= OpCode.ABORT.getValue()
+                || opCode == OpCode.THROW;
+    }
+
+    private static int readOperandSize(byte[] script, int pos, int prefixSize) {
+        if (prefixSize > script.length - pos) {
+            return -1;
+        }
+        long size = 0;
+        for (int i = prefixSize - 1; i >= 0; i--) {
+            size = size << 8 | (script[pos + i] & 0xFF);
+        }
+        return size > Integer.MAX_VALUE ? -1 : (int) size;
+    }
+
+    private static ByteBuffer key(ScriptHash contract, String method) {
+        byte[] hash = contract.toArray();
+        byte[] name = method.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer key = ByteBuffer.allocate(hash.length + name.length);
+        key.put(hash).put(name).flip();
+        return key;
+    }
+}
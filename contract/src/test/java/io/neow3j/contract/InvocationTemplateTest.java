@@ -0,0 +1,81 @@
+package io.neow3j.contract;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.constants.OpCode;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.TransactionAllocator;
+import io.neow3j.wallet.Wallet;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class InvocationTemplateTest {
+
+    private static final ScriptHash NEO = new ScriptHash(
+            "0x9bde8f209c88dd0e7ca3bf0af0f476cdd8207789");
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule();
+
+    private Neow3j neow;
+
+    @Before
+    public void setUp() {
+        // Configure WireMock to use default host and port "localhost:8080".
+        WireMock.configure();
+        neow = Neow3j.build(new HttpService("http://localhost:8080"));
+    }
+
+    @Test
+    public void buildSameScriptAsContractCall() {
+        ContractParameter[] params = new ContractParameter[]{
+                ContractParameter.hash160(NEO), ContractParameter.integer(17)};
+        InvocationTemplate template = new InvocationTemplate.Builder(neow)
+                .withContract(NEO)
+                .withFunction("transfer")
+                .build();
+
+        assertThat(template.buildScript(params), is(new ScriptBuilder()
+                .contractCall(NEO, "transfer", Arrays.asList(params)).toArray()));
+        assertThat(template.buildScript(), is(new ScriptBuilder()
+                .contractCall(NEO, "transfer", Arrays.asList()).toArray()));
+
+        InvocationTemplate failOnFalse = new InvocationTemplate.Builder(neow)
+                .withContract(NEO)
+                .withFunction("transfer")
+                .failOnFalse()
+                .build();
+        assertThat(failOnFalse.buildScript(params), is(new ScriptBuilder()
+                .contractCall(NEO, "transfer", Arrays.asList(params))
+                .opCode(OpCode.ASSERT).toArray()));
+    }
+
+    @Test
+    public void buildInvocationsWithAllocatedNonceAndValidUntilBlock() throws Exception {
+        TransactionAllocator allocator = new TransactionAllocator(neow);
+        allocator.setBlockCount(1000);
+        InvocationTemplate template = new InvocationTemplate.Builder(neow)
+                .withContract(NEO)
+                .withFunction("name")
+                .withWallet(Wallet.createWallet())
+                .withAllocator(allocator)
+                .build();
+
+        // No RPC responses are set up, so any call to the node would fail.
+        Transaction tx1 = template.invoke().withSystemFee(1007390L).build().getTransaction();
+        Transaction tx2 = template.invoke().withSystemFee(1007390L).build().getTransaction();
+
+        assertThat(tx1.getValidUntilBlock(),
+                is((long) NeoConstants.MAX_VALID_UNTIL_BLOCK_INCREMENT + 1000 - 1));
+        assertThat(tx2.getNonce(), is((tx1.getNonce() + 1) % (1L << 32)));
+        assertThat(tx1.getScript(), is(template.buildScript()));
+    }
+}
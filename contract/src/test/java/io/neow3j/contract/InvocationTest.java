@@ -193,6 +193,73 @@ public class InvocationTest {
                 is(sizeFee + verificationFee + additionalFee));
     }
 
+    @Test
+    public void buildWithoutCallsToTheNode() throws Exception {
+        Wallet wallet = Wallet.createWallet();
+        String script = "10c00c046e616d650c14897720d8cd76f4f00abfa37c0edd889c208fde9b41627d5b52";
+        long feePerByte = 2000;
+
+        // No RPC responses are set up, so any call to the node would fail.
+        Invocation i = new Invocation.Builder(neow)
+                .withScript(Numeric.hexStringToByteArray(script))
+                .withWallet(wallet)
+                .withBlockCount(1000)
+                .withSystemFee(1007390L)
+                .withFeePolicy(new FeePolicy(feePerByte))
+                .build();
+
+        assertThat(i.getTransaction().getValidUntilBlock(),
+                is((long) NeoConstants.MAX_VALID_UNTIL_BLOCK_INCREMENT + 1000 - 1));
+        assertThat(i.getTransaction().getSystemFee(), is(1007390L));
+        int signedTxSize = i.sign().getTransaction().getSize();
+        // PUSHDATA1 + PUSHDATA1 + PUSHNULL + ECDsaVerify
+        long verificationFee = 180 + 180 + 30 + 1_000_000;
+        assertThat(i.getTransaction().getNetworkFee(),
+                is(signedTxSize * feePerByte + verificationFee));
+    }
+
+    @Test
+    public void fetchSystemFeeOnlyOnceWithSystemFeeCache() throws IOException {
+        Wallet wallet = Wallet.createWallet();
+        String script = "10c00c046e616d650c14897720d8cd76f4f00abfa37c0edd889c208fde9b41627d5b52";
+        setUpWireMockForCall("invokescript", "invokescript_name_neo.json", script);
+        SystemFeeCache cache = new SystemFeeCache();
+        Invocation.Builder b = new Invocation.Builder(neow)
+                .withScript(Numeric.hexStringToByteArray(script))
+                .withWallet(wallet)
+                .withValidUntilBlock(1000)
+                .withSystemFeeCache(cache)
+                .withSystemFeeEstimator(null);
+        assertThat(b.build().getTransaction().getSystemFee(), is(1007390L));
+
+        WireMock.reset();
+        Invocation i = new Invocation.Builder(neow)
+                .withScript(Numeric.hexStringToByteArray(script))
+                .withWallet(wallet)
+                .withValidUntilBlock(1000)
+                .withSystemFeeCache(cache)
+                .withSystemFeeEstimator(null)
+                .build();
+        assertThat(i.getTransaction().getSystemFee(), is(1007390L));
+    }
+
+    @Test
+    public void estimateSystemFeeOfNativeContractCallWithoutCallToTheNode() throws IOException {
+        Wallet wallet = Wallet.createWallet();
+        // NEO transfer of 5 NEO with fail on false.
+        String script = "150c14c8172ea3b405bf8bfc57c33a8410116b843e13df0c14941343239213fa0e765f1"
+                + "027ce742f48db779a9613c00c087472616e736665720c14897720d8cd76f4f00abfa37c0edd889c20"
+                + "8fde9b41627d5b5238";
+
+        // No RPC responses are set up, so any call to the node would fail.
+        Invocation i = new Invocation.Builder(neow)
+                .withScript(Numeric.hexStringToByteArray(script))
+                .withWallet(wallet)
+                .withValidUntilBlock(1000)
+                .build();
+        assertThat(i.getTransaction().getSystemFee(), is(9007810L));
+    }
+
     @Test
     public void failTryingToSignInvocationWithAccountMissingAPrivateKey() throws Exception {
         Wallet w = Wallet.createWallet("neo");
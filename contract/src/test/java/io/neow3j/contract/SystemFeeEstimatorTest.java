@@ -0,0 +1,60 @@
+package io.neow3j.contract;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.constants.OpCode;
+import io.neow3j.utils.Numeric;
+import java.math.BigInteger;
+import org.junit.Test;
+
+public class SystemFeeEstimatorTest {
+
+    private static final ScriptHash ACCOUNT =
+            new ScriptHash("0x969a77db482f74ce27105f760efa139223431394");
+    private static final ScriptHash CONTRACT =
+            new ScriptHash("0x3b7d3711c6f0ccf9b1dca903d1bfa1d896f1238c");
+
+    private final SystemFeeEstimator estimator = new SystemFeeEstimator();
+
+    @Test
+    public void estimateGasTransfer() {
+        byte[] script = new ScriptBuilder().contractCall(GasToken.SCRIPT_HASH, "transfer", asList(
+                ContractParameter.hash160(ACCOUNT),
+                ContractParameter.hash160(ACCOUNT),
+                ContractParameter.integer(BigInteger.valueOf(100_000_000))))
+                .opCode(OpCode.ASSERT)
+                .toArray();
+        // As consumed by the neo-node, see invokescript_transfer_1_gas.json.
+        assertThat(estimator.estimate(script), is(9007810L));
+    }
+
+    @Test
+    public void estimateVote() {
+        byte[] script = Numeric.hexStringToByteArray("0c2102c0b60c995bc092e866f15a37c176bb59b7eb"
+                + "acf069ba94c0ebf561cb8f9562380c2102200284598c6c1117f163dd938a4c8014cf2cf1164c4b71"
+                + "97f347109db50eae7c0c14c8172ea3b405bf8bfc57c33a8410116b843e13df13c00c04766f74650c"
+                + "14897720d8cd76f4f00abfa37c0edd889c208fde9b41627d5b52");
+        // As consumed by the neo-node, see invokescript_vote.json.
+        assertThat(estimator.estimate(script), is(501007930L));
+    }
+
+    @Test
+    public void estimateCallOfMethodWithAddedPrice() {
+        byte[] script = new ScriptBuilder().contractCall(CONTRACT, "ping", emptyList()).toArray();
+        assertThat(estimator.estimate(script), is(nullValue()));
+
+        estimator.withMethodPrice(CONTRACT, "ping", 500);
+        // PUSH0 + PACK + PUSHDATA1 + PUSHDATA1 + SYSCALL + System.Contract.Call + ping
+        assertThat(estimator.estimate(script), is(30L + 7000 + 180 + 180 + 0 + 1_000_000 + 500));
+    }
+
+    @Test
+    public void doNotEstimateScriptsWithJumps() {
+        byte[] script = new byte[]{OpCode.JMP.getValue(), 0x02, OpCode.RET.getValue()};
+        assertThat(estimator.estimate(script), is(nullValue()));
+    }
+}
@@ -0,0 +1,261 @@
+package io.neow3j.protocol;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.deserializer.ResponseStreamReader;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.utils.LruCache;
+import io.reactivex.Observable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A {@link Neow3jService} decorator that caches the responses of requests whose results do
+ * not change anymore, e.g. a block at a given height or a transaction that is part of a
+ * block.</p>
+ * <br>
+ * <p>Responses are kept in a least-recently-used cache that is bounded by the total size of
+ * the cached responses in bytes. Requests are cached by their method and parameters. Only the
+ * methods in the set of cacheable methods are cached, and only if their response has no error.
+ * Blocks are cached once the next block is known and transactions once they are part of a
+ * block. The confirmations of a cached block or transaction are the ones at the time it was
+ * cached.</p>
+ * <br>
+ * <p>Cached responses are shared between requests and must not be modified.</p>
+ */
+public class CachingNeow3jService implements Neow3jService {
+
+    /**
+     * The default maximum size of the cache (16 MiB).
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 16 * 1024 * 1024;
+
+    /**
+     * The methods cached by default.
+     */
+    public static final Set<String> DEFAULT_CACHEABLE_METHODS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList("getblock", "getblockheader", "getblockhash",
+                    "getrawtransaction", "getcontractstate", "getapplicationlog",
+                    "gettransactionheight")));
+
+    private final Neow3jService neow3jService;
+    private final Set<String> cacheableMethods;
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final LruCache<String, Response<?>> cache;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public CachingNeow3jService(Neow3jService neow3jService) {
+        this(neow3jService, DEFAULT_MAX_WEIGHT);
+    }
+
+    public CachingNeow3jService(Neow3jService neow3jService, long maxWeight) {
+        this(neow3jService, maxWeight, DEFAULT_CACHEABLE_METHODS);
+    }
+
+    /**
+     * Creates a caching service.
+     *
+     * @param neow3jService    the service to send the requests with.
+     * @param maxWeight        the maximum total size of the cached responses in bytes.
+     * @param cacheableMethods the JSON-RPC methods whose responses are cached.
+     */
+    public CachingNeow3jService(Neow3jService neow3jService, long maxWeight,
+            Set<String> cacheableMethods) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("The maximum weight of the cache must be greater "
+                    + "than 0.");
+        }
+        this.neow3jService = neow3jService;
+        this.cache = new LruCache<>(maxWeight, this::weigh);
+        this.cacheableMethods = new HashSet<>(cacheableMethods);
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType)
+            throws IOException {
+
+        String key = cacheKey(request);
+        if (key == null) {
+            return neow3jService.send(request, responseType);
+        }
+        T cached = getCached(key, responseType);
+        if (cached != null) {
+            return cached;
+        }
+        T response = neow3jService.send(request, responseType);
+        putIfImmutable(key, response);
+        return response;
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request,
+            Class<T> responseType) {
+
+        String key = cacheKey(request);
+        if (key == null) {
+            return neow3jService.sendAsync(request, responseType);
+        }
+        T cached = getCached(key, responseType);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return neow3jService.sendAsync(request, responseType).thenApply(response -> {
+            putIfImmutable(key, response);
+            return response;
+        });
+    }
+
+    @Override
+    public <T extends Response> T sendStreaming(Request request,
+            ResponseStreamReader<T> responseReader) throws IOException {
+        return neow3jService.sendStreaming(request, responseReader);
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return neow3jService.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return neow3jService.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request,
+            String unsubscribeMethod, Class<T> responseType) {
+        return neow3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public boolean supportsSubscriptions() {
+        return neow3jService.supportsSubscriptions();
+    }
+
+    @Override
+    public void close() throws IOException {
+        invalidateAll();
+        neow3jService.close();
+    }
+
+    /**
+     * Removes all responses from the cache.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return cache.evictionCount();
+    }
+
+    /**
+     * Gets the ratio of requests that were served from the cache to all cacheable requests.
+     *
+     * @return the hit ratio, or 0 if no cacheable request was sent yet.
+     */
+    public double getHitRatio() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * Gets the total size of the cached responses in bytes.
+     *
+     * @return the weight of the cache.
+     */
+    public long getWeight() {
+        return cache.weight();
+    }
+
+    public long getMaxWeight() {
+        return cache.maxWeight();
+    }
+
+    private String cacheKey(Request<?, ?> request) {
+        if (!cacheableMethods.contains(request.getMethod())) {
+            return null;
+        }
+        try {
+            return request.getMethod() + objectMapper.writeValueAsString(request.getParams());
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private <T extends Response> T getCached(String key, Class<T> responseType) {
+        Response<?> response = cache.get(key);
+        if (responseType.isInstance(response)) {
+            hitCount.incrementAndGet();
+            return responseType.cast(response);
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    private void putIfImmutable(String key, Response<?> response) {
+        if (response == null || response.hasError() || !isImmutable(response.getResult())) {
+            return;
+        }
+        cache.put(key, response);
+    }
+
+    private boolean isImmutable(Object result) {
+        if (result == null) {
+            return false;
+        }
+        if (result instanceof NeoBlock) {
+            return ((NeoBlock) result).getNextBlockHash() != null;
+        }
+        if (result instanceof Transaction) {
+            return ((Transaction) result).getBlockHash() != null;
+        }
+        return true;
+    }
+
+    // The size of the response is known if it was read by a Service. Only responses of other
+    // services are serialized to weigh them. Responses that cannot be serialized are too heavy
+    // to be cached.
+    private long weigh(Response<?> response) {
+        if (response.getRawResponse() != null) {
+            return response.getRawResponse().length();
+        }
+        if (response.getResponseSize() > 0) {
+            return response.getResponseSize();
+        }
+        try {
+            return objectMapper.writeValueAsString(response.getResult())
+                    .getBytes(StandardCharsets.UTF_8).length;
+        } catch (JsonProcessingException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
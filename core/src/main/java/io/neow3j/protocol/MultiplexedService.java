@@ -0,0 +1,155 @@
+package io.neow3j.protocol;
+
+import io.neow3j.utils.Async;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * <p>Base of services that keep one connection to the node and match the responses to their
+ * requests by the JSON-RPC {@code id}, so that any number of requests can be in flight at the
+ * same time.</p>
+ * <br>
+ * <p>Implementations write the requests with {@link #write(String)} and pass every response
+ * they receive to {@link #completeResponse(long, InputStream)}. The requests are completed on
+ * the executor service of this service, or the default executor of {@link Async}, and never on
+ * the thread that reads from the connection. Otherwise, a blocking request made while handling
+ * a response could never receive its own response.</p>
+ */
+public abstract class MultiplexedService extends Service {
+
+    private final Map<Long, PendingResponse> pendingResponses = new ConcurrentHashMap<>();
+
+    protected MultiplexedService(boolean includeRawResponses) {
+        super(includeRawResponses);
+    }
+
+    /**
+     * Writes the given payload to the connection of this service.
+     *
+     * @param payload the JSON-RPC payload to send.
+     * @throws IOException if the payload could not be written.
+     */
+    protected abstract void write(String payload) throws IOException;
+
+    /**
+     * Responses are matched to their requests by id, so the requests have to be sent with
+     * {@link #performIO(String, List)}.
+     */
+    @Override
+    protected InputStream performIO(String payload) {
+        throw new UnsupportedOperationException("The ids of the requests are required to match "
+                + "the responses of a " + getClass().getSimpleName() + ".");
+    }
+
+    @Override
+    protected InputStream performIO(String payload, List<Long> requestIds) throws IOException {
+        try {
+            return performIOAsync(payload, requestIds).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    protected CompletableFuture<InputStream> performIOAsync(String payload,
+            List<Long> requestIds) {
+        PendingResponse pendingResponse = new PendingResponse(requestIds);
+        // Register the request before writing it, the response could arrive right after.
+        for (Long id : requestIds) {
+            if (pendingResponses.putIfAbsent(id, pendingResponse) != null) {
+                requestIds.subList(0, requestIds.indexOf(id)).forEach(pendingResponses::remove);
+                pendingResponse.future.completeExceptionally(new IllegalStateException(
+                        "A request with id " + id + " is already in flight."));
+                return pendingResponse.future;
+            }
+        }
+
+        try {
+            write(payload);
+        } catch (IOException e) {
+            requestIds.forEach(pendingResponses::remove);
+            pendingResponse.future.completeExceptionally(e);
+        }
+        return pendingResponse.future;
+    }
+
+    /**
+     * Gets the executor that requests are completed on.
+     *
+     * @return the executor.
+     */
+    protected Executor getCompletionExecutor() {
+        return asyncExecutorService != null ? asyncExecutorService : Async.getDefaultExecutor();
+    }
+
+    /**
+     * Hands a received response to the request it belongs to.
+     *
+     * @param id       the id of the response or, for a batch, of any response in the batch.
+     * @param response the response.
+     * @return true if a pending request was completed with the response. False, otherwise.
+     */
+    protected boolean completeResponse(long id, InputStream response) {
+        PendingResponse pendingResponse = pendingResponses.get(id);
+        if (pendingResponse == null) {
+            return false;
+        }
+        pendingResponse.ids.forEach(pendingResponses::remove);
+        complete(pendingResponse.future, response, null);
+        return true;
+    }
+
+    /**
+     * Fails all requests that wait for their response, e.g., because the connection was closed.
+     *
+     * @param e the cause.
+     */
+    protected void failPendingResponses(IOException e) {
+        for (Long id : pendingResponses.keySet()) {
+            PendingResponse pendingResponse = pendingResponses.remove(id);
+            if (pendingResponse != null) {
+                complete(pendingResponse.future, null, e);
+            }
+        }
+    }
+
+    private void complete(CompletableFuture<InputStream> future, InputStream response,
+            Throwable e) {
+        try {
+            getCompletionExecutor().execute(() -> {
+                if (e == null) {
+                    future.complete(response);
+                } else {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException rejected) {
+            future.completeExceptionally(rejected);
+        }
+    }
+
+    private static class PendingResponse {
+
+        private final List<Long> ids;
+        private final CompletableFuture<InputStream> future = new CompletableFuture<>();
+
+        private PendingResponse(List<Long> ids) {
+            this.ids = ids;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.neow3j.protocol;
 
+import io.neow3j.protocol.core.BatchRequest;
 import io.neow3j.protocol.core.JsonRpc2_0Neow3j;
 import io.neow3j.protocol.core.Neo;
 import io.neow3j.protocol.rx.Neow3jRx;
@@ -37,6 +38,13 @@ public interface Neow3j extends Neo, Neow3jRx {
         return new JsonRpc2_0Neow3j(neow3jService, pollingInterval, scheduledExecutorService);
     }
 
+    /**
+     * Creates a new, empty batch of requests that are sent to the node in one JSON-RPC call.
+     *
+     * @return new batch request
+     */
+    BatchRequest newBatch();
+
     /**
      * Shutdowns a Neow3j instance and closes opened resources.
      */
@@ -1,7 +1,10 @@
 package io.neow3j.protocol;
 
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.deserializer.ResponseStreamReader;
 import io.neow3j.protocol.notifications.Notification;
 import io.reactivex.Observable;
 
@@ -37,6 +40,39 @@ public interface Neow3jService {
     <T extends Response> CompletableFuture<T> sendAsync(
             Request request, Class<T> responseType);
 
+    /**
+     * Performs a synchronous JSON-RPC request and reads the response while it is streamed from
+     * the node, without buffering the whole response first.
+     *
+     * @param request        request to perform
+     * @param responseReader reader that consumes the response
+     * @param <T>            type of the response
+     * @return the response read by the response reader
+     * @throws IOException thrown if failed to perform a request
+     */
+    <T extends Response> T sendStreaming(
+            Request request, ResponseStreamReader<T> responseReader) throws IOException;
+
+    /**
+     * Performs a synchronous JSON-RPC batch request. All requests of the batch are sent in one
+     * call to the node.
+     *
+     * @param batchRequest batch request to perform
+     * @return the deserialized JSON-RPC responses, in the order of the batched requests
+     * @throws IOException thrown if failed to perform the batch request
+     */
+    BatchResponse sendBatch(BatchRequest batchRequest) throws IOException;
+
+    /**
+     * Performs an asynchronous JSON-RPC batch request. All requests of the batch are sent in one
+     * call to the node.
+     *
+     * @param batchRequest batch request to perform
+     * @return CompletableFuture that will be completed when the responses are returned or if the
+     * batch request has failed
+     */
+    CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest);
+
     /**
      * <p>Subscribe to a stream of notifications. A stream of notifications is opened by
      * by performing a specified JSON-RPC request and is closed by calling
@@ -60,6 +96,16 @@ public interface Neow3jService {
             String unsubscribeMethod,
             Class<T> responseType);
 
+    /**
+     * Checks if the service supports {@link #subscribe(Request, String, Class)}. Services that
+     * wrap another service should return the value of the wrapped service.
+     *
+     * @return true if the service supports subscriptions. False, otherwise.
+     */
+    default boolean supportsSubscriptions() {
+        return false;
+    }
+
     /**
      * Closes resources used by the service.
      *
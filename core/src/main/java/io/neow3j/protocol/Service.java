@@ -1,14 +1,26 @@
 package io.neow3j.protocol;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.deserializer.ResponseStreamReader;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
 import io.neow3j.protocol.notifications.Notification;
 import io.neow3j.utils.Async;
 import io.reactivex.Observable;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 
@@ -19,6 +31,8 @@ public abstract class Service implements Neow3jService {
 
     protected final ObjectMapper objectMapper;
 
+    private final boolean includeRawResponses;
+
     protected ExecutorService asyncExecutorService;
 
     /**
@@ -30,6 +44,7 @@ public abstract class Service implements Neow3jService {
     public Service(ExecutorService executorService, boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
         asyncExecutorService = executorService;
+        this.includeRawResponses = includeRawResponses;
     }
 
     /**
@@ -39,18 +54,73 @@ public abstract class Service implements Neow3jService {
      */
     public Service(boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        this.includeRawResponses = includeRawResponses;
     }
 
     protected abstract InputStream performIO(String payload) throws IOException;
 
+    /**
+     * Performs the IO of the requests with the given ids. Transports that match responses to
+     * their requests by id should override this method, so that they don't have to read the ids
+     * from the payload.
+     *
+     * @param payload    the JSON-RPC payload to send.
+     * @param requestIds the ids of the requests in the payload.
+     * @return the response stream.
+     * @throws IOException if the request failed.
+     */
+    protected InputStream performIO(String payload, List<Long> requestIds) throws IOException {
+        return performIO(payload);
+    }
+
+    /**
+     * Performs the IO of a request whose response is read while it is streamed. Transports that
+     * buffer responses (e.g., to include the raw response) should not do so here.
+     *
+     * @param payload    the JSON-RPC payload to send.
+     * @param requestIds the ids of the requests in the payload.
+     * @return the response stream.
+     * @throws IOException if the request failed.
+     */
+    protected InputStream performStreamingIO(String payload, List<Long> requestIds)
+            throws IOException {
+        return performIO(payload, requestIds);
+    }
+
     @Override
     public <T extends Response> T send(
             Request request, Class<T> responseType) throws IOException {
         String payload = objectMapper.writeValueAsString(request);
 
-        try (InputStream result = performIO(payload)) {
+        try (InputStream result = performIO(payload, requestIds(request))) {
+            return readResponse(result, responseType);
+        }
+    }
+
+    private <T extends Response> T readResponse(InputStream result, Class<T> responseType)
+            throws IOException {
+        if (result != null) {
+            CountingInputStream countingResult = new CountingInputStream(result);
+            T response = objectMapper.readValue(countingResult, responseType);
+            if (response != null) {
+                response.setResponseSize(countingResult.count);
+            }
+            return response;
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public <T extends Response> T sendStreaming(
+            Request request, ResponseStreamReader<T> responseReader) throws IOException {
+        String payload = objectMapper.writeValueAsString(request);
+
+        try (InputStream result = performStreamingIO(payload, requestIds(request))) {
             if (result != null) {
-                return objectMapper.readValue(result, responseType);
+                try (JsonParser parser = objectMapper.getFactory().createParser(result)) {
+                    return responseReader.read(parser);
+                }
             } else {
                 return null;
             }
@@ -60,8 +130,153 @@ public abstract class Service implements Neow3jService {
     @Override
     public <T extends Response> CompletableFuture<T> sendAsync(
             Request jsonRpc20Request, Class<T> responseType) {
-        return Async.run(() ->
-                send(jsonRpc20Request, responseType), asyncExecutorService);
+        return sendAsync(jsonRpc20Request, requestIds(jsonRpc20Request),
+                result -> readResponse(result, responseType));
+    }
+
+    private static List<Long> requestIds(Request<?, ?> request) {
+        return Collections.singletonList(request.getId());
+    }
+
+    private static List<Long> requestIds(List<Request<?, ? extends Response<?>>> requests) {
+        List<Long> ids = new ArrayList<>(requests.size());
+        requests.forEach(r -> ids.add(r.getId()));
+        return ids;
+    }
+
+    /**
+     * Performs the IO of a request asynchronously. The returned future is completed with the
+     * response stream, which is closed by the caller after the response has been read.
+     * <br>
+     * <p>By default, the blocking {@link #performIO(String, List)} is run on the executor service
+     * of this service. Transports that support non-blocking IO should override this method.</p>
+     *
+     * @param payload    the JSON-RPC payload to send.
+     * @param requestIds the ids of the requests in the payload.
+     * @return the future response stream.
+     */
+    protected CompletableFuture<InputStream> performIOAsync(String payload,
+            List<Long> requestIds) {
+        return Async.run(() -> performIO(payload, requestIds), asyncExecutorService);
+    }
+
+    private <T> CompletableFuture<T> sendAsync(Object request, List<Long> requestIds,
+            ResponseReader<T> responseReader) {
+        CompletableFuture<T> response = new CompletableFuture<>();
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(request);
+        } catch (IOException e) {
+            response.completeExceptionally(e);
+            return response;
+        }
+
+        performIOAsync(payload, requestIds).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                response.completeExceptionally(throwable);
+                return;
+            }
+            // we need to explicitly catch any exceptions,
+            // otherwise they will be silently discarded
+            try (InputStream resultStream = result) {
+                response.complete(responseReader.read(resultStream));
+            } catch (Throwable e) {
+                response.completeExceptionally(e);
+            }
+        });
+        return response;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return new BatchResponse(requests, Collections.emptyList());
+        }
+        Map<Long, Request<?, ? extends Response<?>>> requestsById = mapRequestsById(requests);
+
+        String payload = objectMapper.writeValueAsString(requests);
+
+        try (InputStream result = performIO(payload, requestIds(requests))) {
+            return readBatchResponse(result, requests, requestsById);
+        }
+    }
+
+    private Map<Long, Request<?, ? extends Response<?>>> mapRequestsById(
+            List<Request<?, ? extends Response<?>>> requests) {
+
+        Map<Long, Request<?, ? extends Response<?>>> requestsById = new HashMap<>();
+        for (Request<?, ? extends Response<?>> request : requests) {
+            if (requestsById.put(request.getId(), request) != null) {
+                throw new IllegalArgumentException("The batch contains more than one request " +
+                        "with id " + request.getId() + ".");
+            }
+        }
+        return requestsById;
+    }
+
+    private BatchResponse readBatchResponse(InputStream result,
+            List<Request<?, ? extends Response<?>>> requests,
+            Map<Long, Request<?, ? extends Response<?>>> requestsById) throws IOException {
+
+        if (result == null) {
+            return null;
+        }
+        JsonNode responseNodes = objectMapper.readTree(result);
+        if (!responseNodes.isArray()) {
+            // A batch that could not be processed as a whole is answered with a single response.
+            throw new ClientConnectionException("Invalid batch response received: "
+                    + responseNodes);
+        }
+
+        Map<Long, Response<?>> responsesById = new HashMap<>();
+        for (JsonNode responseNode : responseNodes) {
+            JsonNode idNode = responseNode.get("id");
+            Request<?, ? extends Response<?>> request = null;
+            if (idNode != null && idNode.canConvertToLong()) {
+                request = requestsById.get(idNode.asLong());
+            }
+            if (request == null) {
+                throw new ClientConnectionException("Batch response does not match any of the "
+                        + "batched requests: " + responseNode);
+            }
+            Response<?> response = objectMapper.treeToValue(responseNode,
+                    request.getResponseType());
+            if (includeRawResponses) {
+                response.setRawResponse(responseNode.toString());
+            }
+            responsesById.put(request.getId(), response);
+        }
+
+        List<Response<?>> responses = new ArrayList<>(requests.size());
+        for (Request<?, ? extends Response<?>> request : requests) {
+            Response<?> response = responsesById.get(request.getId());
+            if (response == null) {
+                throw new ClientConnectionException("No response received for the batched "
+                        + "request with id " + request.getId() + ".");
+            }
+            responses.add(response);
+        }
+        return new BatchResponse(requests, responses);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(requests, Collections.emptyList()));
+        }
+        Map<Long, Request<?, ? extends Response<?>>> requestsById;
+        try {
+            requestsById = mapRequestsById(requests);
+        } catch (IllegalArgumentException e) {
+            CompletableFuture<BatchResponse> response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+            return response;
+        }
+        return sendAsync(requests, requestIds(requests),
+                result -> readBatchResponse(result, requests, requestsById));
     }
 
     @Override
@@ -71,4 +286,58 @@ public abstract class Service implements Neow3jService {
                 String.format("Service %s does not support subscriptions", this.getClass()
                         .getSimpleName()));
     }
+
+    @FunctionalInterface
+    private interface ResponseReader<T> {
+        T read(InputStream result) throws IOException;
+    }
+
+    // Counts the bytes of a response while it is read. Bytes that are read again after a reset,
+    // e.g. to keep the raw response, are only counted once.
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+        private long markedCount;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            super.mark(readLimit);
+            markedCount = count;
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            super.reset();
+            count = markedCount;
+        }
+    }
 }
@@ -0,0 +1,64 @@
+package io.neow3j.protocol.core;
+
+import io.neow3j.protocol.Neow3jService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A JSON-RPC 2.0 batch of {@link Request}s that is sent to the node in a single call.
+ * <br>
+ * <p>The responses are matched back to their requests by the JSON-RPC {@code id} and are
+ * deserialized into the response type of each individual request.</p>
+ */
+public class BatchRequest {
+
+    private final List<Request<?, ? extends Response<?>>> requests = new ArrayList<>();
+
+    private final Neow3jService neow3jService;
+
+    public BatchRequest(Neow3jService neow3jService) {
+        this.neow3jService = neow3jService;
+    }
+
+    /**
+     * Adds a request to this batch.
+     *
+     * @param request the request to add.
+     * @return this batch.
+     */
+    public BatchRequest add(Request<?, ? extends Response<?>> request) {
+        requests.add(request);
+        return this;
+    }
+
+    /**
+     * Adds multiple requests to this batch.
+     *
+     * @param requests the requests to add.
+     * @return this batch.
+     */
+    public BatchRequest addAll(List<? extends Request<?, ? extends Response<?>>> requests) {
+        this.requests.addAll(requests);
+        return this;
+    }
+
+    public List<Request<?, ? extends Response<?>>> getRequests() {
+        return Collections.unmodifiableList(requests);
+    }
+
+    public int size() {
+        return requests.size();
+    }
+
+    public BatchResponse send() throws IOException {
+        return neow3jService.sendBatch(this);
+    }
+
+    public CompletableFuture<BatchResponse> sendAsync() {
+        return neow3jService.sendBatchAsync(this);
+    }
+}
@@ -0,0 +1,43 @@
+package io.neow3j.protocol.core;
+
+import java.util.List;
+
+/**
+ * The responses of a {@link BatchRequest}, in the same order as the requests of the batch.
+ */
+public class BatchResponse {
+
+    private final List<Request<?, ? extends Response<?>>> requests;
+    private final List<? extends Response<?>> responses;
+
+    public BatchResponse(List<Request<?, ? extends Response<?>>> requests,
+            List<? extends Response<?>> responses) {
+        this.requests = requests;
+        this.responses = responses;
+    }
+
+    public List<Request<?, ? extends Response<?>>> getRequests() {
+        return requests;
+    }
+
+    public List<? extends Response<?>> getResponses() {
+        return responses;
+    }
+
+    /**
+     * Gets the response to the given request.
+     *
+     * @param request the request that was part of the batch.
+     * @param <T>     the response type of the request.
+     * @return the response to the request.
+     * @throws IllegalArgumentException if the request was not part of the batch.
+     */
+    public <T extends Response<?>> T getResponse(Request<?, T> request) {
+        for (int i = 0; i < requests.size(); i++) {
+            if (requests.get(i) == request) {
+                return request.getResponseType().cast(responses.get(i));
+            }
+        }
+        throw new IllegalArgumentException("The given request is not part of this batch.");
+    }
+}
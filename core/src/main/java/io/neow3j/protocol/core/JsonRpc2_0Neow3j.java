@@ -43,8 +43,13 @@ import io.neow3j.protocol.core.methods.response.NeoSendMany;
 import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
 import io.neow3j.protocol.core.methods.response.NeoSendToAddress;
 import io.neow3j.protocol.core.methods.response.NeoSubmitBlock;
+import io.neow3j.protocol.core.methods.response.NeoSubscribe;
 import io.neow3j.protocol.core.methods.response.NeoValidateAddress;
 import io.neow3j.protocol.core.methods.response.TransactionSendAsset;
+import io.neow3j.protocol.notifications.BlockNotification;
+import io.neow3j.protocol.notifications.ExecutionNotification;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.protocol.notifications.TransactionNotification;
 import io.neow3j.protocol.rx.JsonRpc2_0Rx;
 import io.neow3j.utils.Async;
 import io.reactivex.Observable;
@@ -76,7 +81,8 @@ public class JsonRpc2_0Neow3j implements Neow3j {
             Neow3jService neow3jService, long pollingInterval,
             ScheduledExecutorService scheduledExecutorService) {
         this.neow3jService = neow3jService;
-        this.neow3jRx = new JsonRpc2_0Rx(this, scheduledExecutorService);
+        this.neow3jRx = new JsonRpc2_0Rx(this, scheduledExecutorService,
+                neow3jService.supportsSubscriptions());
         this.blockTime = pollingInterval;
         this.scheduledExecutorService = scheduledExecutorService;
     }
@@ -616,6 +622,14 @@ public class JsonRpc2_0Neow3j implements Neow3j {
                 fullTransactionObjects, ascending);
     }
 
+    @Override
+    public Observable<NeoGetBlock> replayBlocksObservable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending, int maxConcurrency) {
+        return neow3jRx.replayBlocksObservable(startBlock, endBlock,
+                fullTransactionObjects, ascending, maxConcurrency);
+    }
+
     @Override
     public Observable<NeoGetBlock> catchUpToLatestBlockObservable(
             BlockParameter startBlock, boolean fullTransactionObjects,
@@ -630,6 +644,13 @@ public class JsonRpc2_0Neow3j implements Neow3j {
         return neow3jRx.catchUpToLatestBlockObservable(startBlock, fullTransactionObjects);
     }
 
+    @Override
+    public Observable<NeoGetBlock> catchUpToLatestBlockObservable(
+            BlockParameter startBlock, boolean fullTransactionObjects, int maxConcurrency) {
+        return neow3jRx.catchUpToLatestBlockObservable(startBlock, fullTransactionObjects,
+                maxConcurrency);
+    }
+
     @Override
     public Observable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksObservable(
             BlockParameter startBlock, boolean fullTransactionObjects) {
@@ -637,6 +658,38 @@ public class JsonRpc2_0Neow3j implements Neow3j {
                 startBlock, fullTransactionObjects, blockTime);
     }
 
+    @Override
+    public Observable<BlockNotification> blockNotifications() {
+        return subscribe("block_added", BlockNotification.class);
+    }
+
+    @Override
+    public Observable<TransactionNotification> transactionNotifications() {
+        return subscribe("transaction_added", TransactionNotification.class);
+    }
+
+    @Override
+    public Observable<ExecutionNotification> executionNotifications() {
+        return subscribe("notification_from_execution", ExecutionNotification.class);
+    }
+
+    private <T extends Notification<?>> Observable<T> subscribe(String event,
+            Class<T> notificationType) {
+        return neow3jService.subscribe(
+                new Request<>(
+                        "subscribe",
+                        asList(event),
+                        neow3jService,
+                        NeoSubscribe.class),
+                "unsubscribe",
+                notificationType);
+    }
+
+    @Override
+    public BatchRequest newBatch() {
+        return new BatchRequest(neow3jService);
+    }
+
     @Override
     public void shutdown() {
         scheduledExecutorService.shutdown();
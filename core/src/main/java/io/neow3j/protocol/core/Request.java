@@ -1,6 +1,8 @@
 package io.neow3j.protocol.core;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.deserializer.ResponseStreamReader;
 import io.reactivex.Observable;
 
 import java.io.IOException;
@@ -66,10 +68,27 @@ public class Request<S, T extends Response> {
         this.id = id;
     }
 
+    @JsonIgnore
+    public Class<T> getResponseType() {
+        return responseType;
+    }
+
     public T send() throws IOException {
         return neow3jService.send(this, responseType);
     }
 
+    /**
+     * Sends this request and reads the response with the given reader while it is streamed
+     * from the node, e.g., with a {@link io.neow3j.protocol.deserializer.BlockStreamReader}.
+     *
+     * @param responseReader the reader that consumes the response.
+     * @return the response.
+     * @throws IOException if the request failed.
+     */
+    public T sendStreaming(ResponseStreamReader<T> responseReader) throws IOException {
+        return neow3jService.sendStreaming(this, responseReader);
+    }
+
     public CompletableFuture<T> sendAsync() {
         return neow3jService.sendAsync(this, responseType);
     }
@@ -1,5 +1,6 @@
 package io.neow3j.protocol.core;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.neow3j.protocol.deserializer.KeepAsJsonDeserialzier;
@@ -17,6 +18,8 @@ public class Response<T> {
     private T result;
     private Error error;
     private String rawResponse;
+    @JsonIgnore
+    private long responseSize;
 
     public Response() {
     }
@@ -65,6 +68,19 @@ public class Response<T> {
         this.rawResponse = rawResponse;
     }
 
+    /**
+     * Gets the size of the JSON-RPC response that this response was read from.
+     *
+     * @return the size in bytes, or 0 if the response was not read by a {@code Service}.
+     */
+    public long getResponseSize() {
+        return responseSize;
+    }
+
+    public void setResponseSize(long responseSize) {
+        this.responseSize = responseSize;
+    }
+
     public void throwOnError() throws ErrorResponseException {
         if (hasError()) {
             // TODO Claude 19.06.19: Throw more differentiated exception according to error code.
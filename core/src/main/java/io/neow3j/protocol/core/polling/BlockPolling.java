@@ -1,7 +1,7 @@
 package io.neow3j.protocol.core.polling;
 
+import io.neow3j.model.NeoConfig;
 import io.neow3j.protocol.Neow3j;
-import io.reactivex.Observable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,61 +10,192 @@ import java.math.BigInteger;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
+import java.util.function.LongSupplier;
 
+/**
+ * <p>Polls the node for new blocks.</p>
+ * <br>
+ * <p>The poller predicts the time of the next block with
+ * {@link NeoConfig#milliSecondsPerBlock()}. Until the next block is expected it does not poll
+ * the node. After the expected block time it polls tightly and backs off exponentially up to the
+ * polling interval if no new block shows up. All blocks that were found with one poll are
+ * reported as one range.</p>
+ */
 public class BlockPolling {
 
     private static final Logger LOG = LoggerFactory.getLogger(BlockPolling.class);
 
-    private BigInteger currentBlock;
+    /**
+     * The interval in milliseconds at which the node is polled right after a new block is
+     * expected.
+     */
+    public static final long TIGHT_POLLING_INTERVAL = 500;
+
+    private static final long NO_BLOCK = -1;
+    private static final int MAX_BACKOFF_EXPONENT = 16;
 
     private final Neow3j neow3j;
-    private final Callback<BigInteger> callback;
+    private final Callback<BigInteger> blockCallback;
+    private final BlockRangeCallback rangeCallback;
+    private final LongSupplier clock;
+
+    private volatile long currentBlock = NO_BLOCK;
+    private long expectedBlockTime;
+    private int missedPolls;
+    private long pollingInterval;
 
-    private ScheduledFuture<?> schedule;
+    private volatile ScheduledFuture<?> schedule;
+    private volatile boolean cancelled;
 
+    /**
+     * Creates a poller that reports every new block on its own.
+     *
+     * @param neow3j   the neow3j instance to poll the node with.
+     * @param callback the callback that is called with the index of each new block.
+     */
     public BlockPolling(Neow3j neow3j, Callback<BigInteger> callback) {
+        this(neow3j, callback, null, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a poller that reports all blocks that were found with one poll as one range.
+     *
+     * @param neow3j   the neow3j instance to poll the node with.
+     * @param callback the callback that is called with the range of new blocks.
+     */
+    public BlockPolling(Neow3j neow3j, BlockRangeCallback callback) {
+        this(neow3j, null, callback, System::currentTimeMillis);
+    }
+
+    BlockPolling(Neow3j neow3j, BlockRangeCallback callback, LongSupplier clock) {
+        this(neow3j, null, callback, clock);
+    }
+
+    private BlockPolling(Neow3j neow3j, Callback<BigInteger> blockCallback,
+            BlockRangeCallback rangeCallback, LongSupplier clock) {
         this.neow3j = neow3j;
-        this.callback = callback;
+        this.blockCallback = blockCallback;
+        this.rangeCallback = rangeCallback;
+        this.clock = clock;
     }
 
+    /**
+     * Gets the index of the last block that was reported.
+     *
+     * @return the block index, or null if the node was not polled yet.
+     */
     public BigInteger getCurrentBlock() {
+        long block = currentBlock;
+        return block == NO_BLOCK ? null : BigInteger.valueOf(block);
+    }
+
+    /**
+     * Gets the index of the last block that was reported.
+     *
+     * @return the block index, or -1 if the node was not polled yet.
+     */
+    public long getCurrentBlockIndex() {
         return currentBlock;
     }
 
+    /**
+     * Marks the block after the current block as reported.
+     *
+     * @deprecated The poller advances the current block itself after each reported block.
+     */
+    @Deprecated
     public synchronized void nextBlock() {
-        this.currentBlock = this.currentBlock.add(BigInteger.ONE);
+        currentBlock++;
     }
 
-    private BigInteger getLatestBlockIndex() throws IOException {
-        return neow3j.getBlockCount().send().getBlockIndex();
+    private long getLatestBlockIndex() throws IOException {
+        return neow3j.getBlockCount().send().getBlockIndex().longValueExact() - 1;
     }
 
+    /**
+     * Starts polling the node.
+     *
+     * @param scheduledExecutorService the executor to poll the node on.
+     * @param pollingInterval          the maximum interval in milliseconds between two polls
+     *                                 once a new block is expected.
+     */
     public void run(ScheduledExecutorService scheduledExecutorService, long pollingInterval) {
-        this.schedule = scheduledExecutorService.scheduleAtFixedRate(
-                () -> {
-                    try {
-                        BigInteger latestBlockNumber = getLatestBlockIndex().subtract(BigInteger.ONE);
-                        if (this.currentBlock == null) {
-                            this.currentBlock = latestBlockNumber;
-                        }
-                        if (latestBlockNumber.compareTo(getCurrentBlock()) == 1) {
-                            IntStream.rangeClosed(getCurrentBlock().add(BigInteger.ONE).intValue(), latestBlockNumber.intValue())
-                                    .forEachOrdered((blockIndex) -> {
-                                        callback.onEvent(BigInteger.valueOf(blockIndex));
-                                        nextBlock();
-                                    });
-                        }
-                    } catch (Throwable e) {
-                        LOG.error("Error on polling: {}", e);
-                        Observable.error(e);
-                    }
-                },
-                0, pollingInterval, TimeUnit.MILLISECONDS);
+        this.pollingInterval = pollingInterval;
+        this.expectedBlockTime = clock.getAsLong();
+        schedule(scheduledExecutorService, 0);
+    }
+
+    private void schedule(ScheduledExecutorService scheduledExecutorService, long delay) {
+        if (cancelled) {
+            return;
+        }
+        this.schedule = scheduledExecutorService.schedule(() -> {
+            boolean newBlocks = false;
+            try {
+                newBlocks = poll();
+            } catch (Throwable e) {
+                LOG.error("Error on polling: {}", e);
+            }
+            schedule(scheduledExecutorService, nextPollDelay(newBlocks));
+        }, delay, TimeUnit.MILLISECONDS);
+        if (cancelled) {
+            this.schedule.cancel(false);
+        }
+    }
+
+    private boolean poll() throws IOException {
+        long latestBlock = getLatestBlockIndex();
+        if (currentBlock == NO_BLOCK) {
+            currentBlock = latestBlock;
+            return false;
+        }
+        if (latestBlock <= currentBlock) {
+            return false;
+        }
+        report(currentBlock + 1, latestBlock);
+        return true;
+    }
+
+    // The current block is only advanced over the blocks that the callback has processed, so
+    // that the rest is reported again with the next poll if the callback fails.
+    private void report(long fromIndex, long toIndex) {
+        if (blockCallback != null) {
+            for (long index = fromIndex; index <= toIndex; index++) {
+                blockCallback.onEvent(BigInteger.valueOf(index));
+                currentBlock = index;
+            }
+        } else {
+            rangeCallback.onBlocks(fromIndex, toIndex);
+            currentBlock = toIndex;
+        }
+    }
+
+    /**
+     * Computes the delay until the next poll and updates the expected time of the next block.
+     *
+     * @param newBlocks whether the last poll found new blocks.
+     * @return the delay in milliseconds.
+     */
+    long nextPollDelay(boolean newBlocks) {
+        long now = clock.getAsLong();
+        long tightInterval = Math.min(TIGHT_POLLING_INTERVAL, pollingInterval);
+        if (newBlocks) {
+            expectedBlockTime = now + NeoConfig.milliSecondsPerBlock();
+            missedPolls = 0;
+        }
+        if (now < expectedBlockTime) {
+            return Math.max(expectedBlockTime - now, tightInterval);
+        }
+        long backoff = tightInterval << Math.min(missedPolls, MAX_BACKOFF_EXPONENT);
+        missedPolls++;
+        return Math.min(backoff, pollingInterval);
     }
 
     public void cancel() {
-        schedule.cancel(false);
+        cancelled = true;
+        if (schedule != null) {
+            schedule.cancel(false);
+        }
     }
 
 }
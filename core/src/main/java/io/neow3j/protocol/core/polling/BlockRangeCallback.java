@@ -0,0 +1,15 @@
+package io.neow3j.protocol.core.polling;
+
+/**
+ * Callback interface for ranges of new blocks.
+ */
+public interface BlockRangeCallback {
+
+    /**
+     * Called with the indices of new blocks.
+     *
+     * @param fromIndex the index of the first new block (inclusive).
+     * @param toIndex   the index of the last new block (inclusive).
+     */
+    void onBlocks(long fromIndex, long toIndex);
+}
@@ -0,0 +1,57 @@
+package io.neow3j.protocol.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * <p>Streams the transactions of a {@code getblock} response to a consumer, one at a time, as
+ * the parser reaches them.</p>
+ * <br>
+ * <p>Only the block header is kept in memory. The {@link NeoBlock} of the returned response
+ * therefore contains an empty transaction list (or none at all, if the response did not
+ * contain transactions).</p>
+ */
+public class BlockStreamReader extends ResponseStreamReader<NeoGetBlock> {
+
+    private static final String TRANSACTIONS_FIELD = "tx";
+
+    private final Consumer<Transaction> transactionConsumer;
+
+    public BlockStreamReader(Consumer<Transaction> transactionConsumer) {
+        this.transactionConsumer = transactionConsumer;
+    }
+
+    @Override
+    protected NeoGetBlock createResponse() {
+        return new NeoGetBlock();
+    }
+
+    @Override
+    protected void readResult(JsonParser parser, NeoGetBlock response) throws IOException {
+        expectToken(parser, JsonToken.START_OBJECT);
+        ObjectNode header = JsonNodeFactory.instance.objectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (TRANSACTIONS_FIELD.equals(fieldName) && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    transactionConsumer.accept(parser.readValueAs(Transaction.class));
+                }
+                header.putArray(TRANSACTIONS_FIELD);
+            } else {
+                JsonNode value = parser.readValueAsTree();
+                header.set(fieldName, value);
+            }
+        }
+        response.setResult(parser.getCodec().treeToValue(header, NeoBlock.class));
+    }
+}
@@ -0,0 +1,36 @@
+package io.neow3j.protocol.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.neow3j.protocol.core.methods.response.NeoGetRawMemPool;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.function.Consumer;
+
+/**
+ * Streams the transaction hashes of a {@code getrawmempool} response to a consumer, one at a
+ * time, as the parser reaches them. The returned response contains an empty list of hashes.
+ */
+public class RawMemPoolStreamReader extends ResponseStreamReader<NeoGetRawMemPool> {
+
+    private final Consumer<String> transactionHashConsumer;
+
+    public RawMemPoolStreamReader(Consumer<String> transactionHashConsumer) {
+        this.transactionHashConsumer = transactionHashConsumer;
+    }
+
+    @Override
+    protected NeoGetRawMemPool createResponse() {
+        return new NeoGetRawMemPool();
+    }
+
+    @Override
+    protected void readResult(JsonParser parser, NeoGetRawMemPool response) throws IOException {
+        expectToken(parser, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            transactionHashConsumer.accept(parser.getText());
+        }
+        response.setResult(Collections.emptyList());
+    }
+}
@@ -0,0 +1,82 @@
+package io.neow3j.protocol.deserializer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.neow3j.protocol.core.Response;
+
+import java.io.IOException;
+
+/**
+ * <p>Reads a JSON-RPC response token by token from a Jackson {@link JsonParser}, instead of
+ * building the whole response in memory first.</p>
+ * <br>
+ * <p>Subclasses read the {@code result} of the response and are free to hand out parts of it
+ * (e.g., the transactions of a block) as soon as the parser reaches them.</p>
+ *
+ * @param <T> the type of the response.
+ */
+public abstract class ResponseStreamReader<T extends Response> {
+
+    /**
+     * Reads the JSON-RPC response from the parser.
+     *
+     * @param parser the parser positioned before the start of the response object.
+     * @return the response.
+     * @throws IOException if the response could not be read.
+     */
+    public T read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON-RPC response object.");
+        }
+        T response = createResponse();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (fieldName) {
+                case "id":
+                    response.setId(parser.getLongValue());
+                    break;
+                case "jsonrpc":
+                    response.setJsonrpc(parser.getText());
+                    break;
+                case "error":
+                    response.setError(parser.readValueAs(Response.Error.class));
+                    break;
+                case "result":
+                    readResult(parser, response);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Creates the empty response object that is populated while reading.
+     *
+     * @return the response.
+     */
+    protected abstract T createResponse();
+
+    /**
+     * Reads the {@code result} of the response. The parser is positioned on the first token of
+     * the result and has to be left on its last token.
+     *
+     * @param parser   the parser.
+     * @param response the response to set the result on.
+     * @throws IOException if the result could not be read.
+     */
+    protected abstract void readResult(JsonParser parser, T response) throws IOException;
+
+    protected static void expectToken(JsonParser parser, JsonToken expected) throws IOException {
+        if (parser.getCurrentToken() != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but got "
+                    + parser.getCurrentToken() + ".");
+        }
+    }
+}
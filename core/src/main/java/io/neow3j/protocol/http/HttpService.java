@@ -4,10 +4,14 @@ import io.neow3j.protocol.Service;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
 import io.neow3j.protocol.exceptions.ClientConnectionException;
-import io.neow3j.utils.Async;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Headers;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import okhttp3.logging.HttpLoggingInterceptor;
@@ -19,9 +23,13 @@ import org.slf4j.LoggerFactory;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * HTTP implementation of the Service API.
@@ -58,8 +66,8 @@ public class HttpService extends Service {
     /**
      * <p>Create an {@link HttpService} instance.</p>
      * <br>
-     * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * <p>Asynchronous {@link Request} calls are enqueued on the dispatcher of the HTTP client
+     * and do not block a thread while waiting for the response.</p>
      *
      * @param url                 the URL to the HTTP service (JSON-RPC).
      * @param httpClient          the HTTP client instance.
@@ -87,8 +95,8 @@ public class HttpService extends Service {
      * <br>
      * <p>The URL is set to {@link HttpService#DEFAULT_URL}.</p>
      * <br>
-     * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * <p>Asynchronous {@link Request} calls are enqueued on the dispatcher of the HTTP client
+     * and do not block a thread while waiting for the response.</p>
      *
      * @param httpClient          the HTTP client instance.
      * @param includeRawResponses option to include or not raw responses on the {@link Response} object.
@@ -113,8 +121,8 @@ public class HttpService extends Service {
     /**
      * <p>Create an {@link HttpService} instance.</p>
      * <br>
-     * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * <p>Asynchronous {@link Request} calls are enqueued on the dispatcher of the HTTP client
+     * and do not block a thread while waiting for the response.</p>
      * <br>
      * <p>The {@link #includeRawResponses} is set to false.</p>
      *
@@ -142,8 +150,8 @@ public class HttpService extends Service {
     /**
      * <p>Create an {@link HttpService} instance.</p>
      * <br>
-     * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * <p>Asynchronous {@link Request} calls are enqueued on the dispatcher of the HTTP client
+     * and do not block a thread while waiting for the response.</p>
      * <br>
      * <p>The HTTP client used is set by default by {@link #createOkHttpClient()}.</p>
      * <br>
@@ -171,8 +179,8 @@ public class HttpService extends Service {
     /**
      * <p>Create an {@link HttpService} instance.</p>
      * <br>
-     * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * <p>Asynchronous {@link Request} calls are enqueued on the dispatcher of the HTTP client
+     * and do not block a thread while waiting for the response.</p>
      * <br>
      * <p>The HTTP client used is set by default by {@link #createOkHttpClient()}.</p>
      *
@@ -200,8 +208,8 @@ public class HttpService extends Service {
     /**
      * <p>Create an {@link HttpService} instance.</p>
      * <br>
-     * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * <p>Asynchronous {@link Request} calls are enqueued on the dispatcher of the HTTP client
+     * and do not block a thread while waiting for the response.</p>
      * <br>
      * <p>The URL is set to {@link HttpService#DEFAULT_URL}.</p>
      * <br>
@@ -230,8 +238,8 @@ public class HttpService extends Service {
     /**
      * <p>Create an {@link HttpService} instance.</p>
      * <br>
-     * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * <p>Asynchronous {@link Request} calls are enqueued on the dispatcher of the HTTP client
+     * and do not block a thread while waiting for the response.</p>
      * <br>
      * <p>The HTTP client used is set by default by {@link #createOkHttpClient()}.</p>
      * <br>
@@ -263,21 +271,72 @@ public class HttpService extends Service {
 
     @Override
     protected InputStream performIO(String request) throws IOException {
+        okhttp3.Response response = httpClient.newCall(buildHttpRequest(request)).execute();
+        return processResponse(response, includeRawResponses);
+    }
+
+    @Override
+    protected InputStream performStreamingIO(String request, List<Long> requestIds)
+            throws IOException {
+        okhttp3.Response response = httpClient.newCall(buildHttpRequest(request)).execute();
+        return processResponse(response, false);
+    }
+
+    /**
+     * <p>Performs the request with {@link okhttp3.Call#enqueue(Callback)}, so that no thread is
+     * blocked while waiting for the response. The response is read on the dispatcher thread of
+     * the {@link OkHttpClient}.</p>
+     * <br>
+     * <p>If an external {@link ExecutorService} was provided to this service, the request is
+     * run on that executor instead.</p>
+     *
+     * @param request    the JSON-RPC payload to send.
+     * @param requestIds the ids of the requests in the payload.
+     * @return the future response stream.
+     */
+    @Override
+    protected CompletableFuture<InputStream> performIOAsync(String request,
+            List<Long> requestIds) {
+        if (asyncExecutorService != null) {
+            return super.performIOAsync(request, requestIds);
+        }
 
+        CompletableFuture<InputStream> result = new CompletableFuture<>();
+        httpClient.newCall(buildHttpRequest(request)).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, okhttp3.Response response) {
+                try {
+                    result.complete(processResponse(response, includeRawResponses));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+        return result;
+    }
+
+    private okhttp3.Request buildHttpRequest(String request) {
         RequestBody requestBody = RequestBody.create(JSON_MEDIA_TYPE, request);
         Headers headers = buildHeaders();
 
-        okhttp3.Request httpRequest = new okhttp3.Request.Builder()
+        return new okhttp3.Request.Builder()
                 .url(url)
                 .headers(headers)
                 .post(requestBody)
                 .build();
+    }
 
-        okhttp3.Response response = httpClient.newCall(httpRequest).execute();
+    private InputStream processResponse(okhttp3.Response response, boolean includeRawResponses)
+            throws IOException {
         ResponseBody responseBody = response.body();
         if (response.isSuccessful()) {
             if (responseBody != null) {
-                return buildInputStream(responseBody);
+                return buildInputStream(responseBody, includeRawResponses);
             } else {
                 return null;
             }
@@ -289,7 +348,8 @@ public class HttpService extends Service {
         }
     }
 
-    private InputStream buildInputStream(ResponseBody responseBody) throws IOException {
+    private InputStream buildInputStream(ResponseBody responseBody, boolean includeRawResponses)
+            throws IOException {
         InputStream inputStream = responseBody.byteStream();
 
         if (includeRawResponses) {
@@ -351,8 +411,197 @@ public class HttpService extends Service {
         return headers;
     }
 
+    OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
     @Override
     public void close() {
 
     }
+
+    /**
+     * <p>Builder for an {@link HttpService} with a tuned {@link OkHttpClient}.</p>
+     * <br>
+     * <p>A service only ever talks to a single node. Therefore, unlike a default
+     * {@link OkHttpClient}, the builder does not limit the number of concurrent requests per
+     * host below the overall limit of concurrent requests.</p>
+     */
+    public static class Builder {
+
+        public static final int DEFAULT_MAX_REQUESTS = 64;
+        public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 16;
+        public static final long DEFAULT_KEEP_ALIVE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+        public static final long DEFAULT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+        private String url;
+        private boolean includeRawResponses;
+        private ExecutorService executorService;
+        private int maxRequests;
+        private int maxRequestsPerHost;
+        private int maxIdleConnections;
+        private long keepAliveMillis;
+        private boolean http2PriorKnowledge;
+        private long connectTimeoutMillis;
+        private long readTimeoutMillis;
+        private long writeTimeoutMillis;
+
+        public Builder() {
+            this.url = DEFAULT_URL;
+            this.includeRawResponses = false;
+            this.maxRequests = DEFAULT_MAX_REQUESTS;
+            this.maxRequestsPerHost = DEFAULT_MAX_REQUESTS;
+            this.maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+            this.keepAliveMillis = DEFAULT_KEEP_ALIVE_MILLIS;
+            this.http2PriorKnowledge = false;
+            this.connectTimeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+            this.readTimeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+            this.writeTimeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+        }
+
+        /**
+         * Sets the URL of the node's JSON-RPC endpoint.
+         * <p>
+         * It is set to {@link HttpService#DEFAULT_URL} by default.
+         *
+         * @param url the URL.
+         * @return this builder.
+         */
+        public Builder url(String url) {
+            this.url = url;
+            return this;
+        }
+
+        public Builder includeRawResponses(boolean includeRawResponses) {
+            this.includeRawResponses = includeRawResponses;
+            return this;
+        }
+
+        /**
+         * Sets an external executor on which asynchronous requests are run. If none is set,
+         * asynchronous requests are enqueued on the dispatcher of the HTTP client.
+         *
+         * @param executorService the executor.
+         * @return this builder.
+         */
+        public Builder executorService(ExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of asynchronous requests that are executed concurrently.
+         * Further requests are queued until a running request completes.
+         * <p>
+         * It is set to {@link #DEFAULT_MAX_REQUESTS} by default.
+         *
+         * @param maxRequests the maximum number of concurrent requests.
+         * @return this builder.
+         */
+        public Builder maxRequests(int maxRequests) {
+            if (maxRequests < 1) {
+                throw new IllegalArgumentException("The maximum number of requests must be at " +
+                        "least 1.");
+            }
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of asynchronous requests that are executed concurrently
+         * against the node's host.
+         * <p>
+         * It is set to {@link #DEFAULT_MAX_REQUESTS} by default.
+         *
+         * @param maxRequestsPerHost the maximum number of concurrent requests per host.
+         * @return this builder.
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            if (maxRequestsPerHost < 1) {
+                throw new IllegalArgumentException("The maximum number of requests per host " +
+                        "must be at least 1.");
+            }
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of idle connections that are kept in the connection pool.
+         * <p>
+         * It is set to {@link #DEFAULT_MAX_IDLE_CONNECTIONS} by default.
+         *
+         * @param maxIdleConnections the maximum number of idle connections.
+         * @return this builder.
+         */
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            if (maxIdleConnections < 0) {
+                throw new IllegalArgumentException("The maximum number of idle connections " +
+                        "must not be negative.");
+            }
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * Sets the time an idle connection is kept in the connection pool.
+         * <p>
+         * It is set to 5 minutes by default.
+         *
+         * @param keepAlive the keep-alive duration.
+         * @param unit      the unit of the duration.
+         * @return this builder.
+         */
+        public Builder keepAlive(long keepAlive, TimeUnit unit) {
+            this.keepAliveMillis = unit.toMillis(keepAlive);
+            return this;
+        }
+
+        /**
+         * Uses cleartext HTTP/2 (h2c) without an upgrade from HTTP/1.1. All requests are then
+         * multiplexed over a single connection. The node has to support HTTP/2 and the URL has
+         * to use the {@code http} scheme.
+         *
+         * @param http2PriorKnowledge whether to use HTTP/2 with prior knowledge.
+         * @return this builder.
+         */
+        public Builder http2PriorKnowledge(boolean http2PriorKnowledge) {
+            this.http2PriorKnowledge = http2PriorKnowledge;
+            return this;
+        }
+
+        public Builder connectTimeout(long timeout, TimeUnit unit) {
+            this.connectTimeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        public Builder readTimeout(long timeout, TimeUnit unit) {
+            this.readTimeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        public Builder writeTimeout(long timeout, TimeUnit unit) {
+            this.writeTimeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        public HttpService build() {
+            Dispatcher dispatcher = new Dispatcher();
+            dispatcher.setMaxRequests(maxRequests);
+            dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+            OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                    .dispatcher(dispatcher)
+                    .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveMillis,
+                            TimeUnit.MILLISECONDS))
+                    .connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS)
+                    .readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
+                    .writeTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS);
+            if (http2PriorKnowledge) {
+                builder.protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+            }
+            configureLogging(builder);
+
+            return new HttpService(url, builder.build(), executorService, includeRawResponses);
+        }
+    }
 }
@@ -0,0 +1,187 @@
+package io.neow3j.protocol.ipc;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.neow3j.protocol.MultiplexedService;
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Unix domain socket implementation of the Service API that keeps one persistent
+ * connection and pipelines requests over it.</p>
+ * <br>
+ * <p>Requests are written to the socket as soon as they are sent, without waiting for the
+ * responses of previous requests. A single reader thread reads the newline-delimited responses
+ * straight into a buffer and hands them to the waiting requests by their JSON-RPC {@code id},
+ * without copying them. The ids are given by the sent requests, so outgoing payloads are never
+ * parsed.</p>
+ */
+public class PipelinedUnixIpcService extends MultiplexedService {
+
+    private static final Logger log = LoggerFactory.getLogger(PipelinedUnixIpcService.class);
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final byte DELIMITER = '\n';
+
+    private final ReadableByteChannel input;
+    private final WritableByteChannel output;
+    private final Object writeLock = new Object();
+
+    private byte[] buffer;
+    private ByteBuffer readBuffer;
+    private volatile boolean closed;
+
+    public PipelinedUnixIpcService(String ipcSocketPath) {
+        this(ipcSocketPath, false);
+    }
+
+    public PipelinedUnixIpcService(String ipcSocketPath, boolean includeRawResponses) {
+        this(openChannel(ipcSocketPath), includeRawResponses);
+    }
+
+    private PipelinedUnixIpcService(UnixSocketChannel channel, boolean includeRawResponses) {
+        this(channel, channel, includeRawResponses);
+    }
+
+    PipelinedUnixIpcService(ReadableByteChannel input, WritableByteChannel output,
+            boolean includeRawResponses) {
+        super(includeRawResponses);
+        this.input = input;
+        this.output = output;
+        allocateBuffer(DEFAULT_BUFFER_SIZE);
+        Thread readerThread = new Thread(this::readResponses, "neow3j-ipc-reader");
+        readerThread.setDaemon(true);
+        readerThread.start();
+    }
+
+    private static UnixSocketChannel openChannel(String ipcSocketPath) {
+        try {
+            return UnixSocketChannel.open(new UnixSocketAddress(ipcSocketPath));
+        } catch (IOException e) {
+            throw new RuntimeException(
+                    "Provided file socket cannot be opened: " + ipcSocketPath, e);
+        }
+    }
+
+    @Override
+    protected void write(String payload) throws IOException {
+        if (closed) {
+            throw new IOException("IPC service is closed.");
+        }
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 1);
+        buffer.put(bytes).put(DELIMITER);
+        buffer.flip();
+        synchronized (writeLock) {
+            while (buffer.hasRemaining()) {
+                output.write(buffer);
+            }
+        }
+        log.debug(">> " + payload);
+    }
+
+    private void readResponses() {
+        try {
+            // The bytes before the scan position hold the start of a response that was not
+            // completely read yet.
+            int scanned = 0;
+            while (input.read(readBuffer) >= 0) {
+                int end = readBuffer.position();
+                int frameStart = 0;
+                boolean handedOver = false;
+                for (int i = scanned; i < end; i++) {
+                    if (buffer[i] == DELIMITER) {
+                        handedOver |= dispatchFrame(frameStart, i - frameStart);
+                        frameStart = i + 1;
+                    }
+                }
+                scanned = end - frameStart;
+                if (handedOver) {
+                    // The dispatched responses are read from the buffer, continue in a new one.
+                    byte[] rest = buffer;
+                    allocateBuffer(Math.max(DEFAULT_BUFFER_SIZE, scanned * 2));
+                    readBuffer.put(rest, frameStart, scanned);
+                } else if (frameStart > 0 || end == buffer.length) {
+                    byte[] rest = buffer;
+                    if (end - frameStart == buffer.length) {
+                        allocateBuffer(buffer.length * 2);
+                    } else {
+                        readBuffer.clear();
+                    }
+                    readBuffer.put(rest, frameStart, scanned);
+                }
+            }
+            failPendingResponses(new IOException("IPC connection was closed by the node."));
+        } catch (IOException e) {
+            failPendingResponses(closed ? new IOException("IPC service is closed.") : e);
+        }
+    }
+
+    private void allocateBuffer(int size) {
+        buffer = new byte[size];
+        readBuffer = ByteBuffer.wrap(buffer);
+    }
+
+    /**
+     * Hands the response at the given range of the buffer to its pending request.
+     *
+     * @return true if the response was handed over. False, otherwise.
+     */
+    private boolean dispatchFrame(int offset, int length) throws IOException {
+        if (length == 0) {
+            return false;
+        }
+        Long id = readResponseId(buffer, offset, length);
+        if (id == null
+                || !completeResponse(id, new ByteArrayInputStream(buffer, offset, length))) {
+            log.warn("Received an IPC response that does not match any pending request.");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Reads the id of a response, or of the first response in a batch, without building the
+     * whole response.
+     */
+    private Long readResponseId(byte[] response, int offset, int length) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(response, offset,
+                length)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+            if (token != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                token = parser.nextToken();
+                if ("id".equals(fieldName)) {
+                    return token == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            input.close();
+        } finally {
+            output.close();
+        }
+    }
+}
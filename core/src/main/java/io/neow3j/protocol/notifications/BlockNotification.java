@@ -0,0 +1,9 @@
+package io.neow3j.protocol.notifications;
+
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+
+/**
+ * Notification of a block that was added to the blockchain ({@code block_added} event).
+ */
+public class BlockNotification extends Notification<NeoBlock> {
+}
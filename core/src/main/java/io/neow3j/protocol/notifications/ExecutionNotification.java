@@ -0,0 +1,10 @@
+package io.neow3j.protocol.notifications;
+
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
+
+/**
+ * Notification that was emitted by a contract during the execution of a transaction
+ * ({@code notification_from_execution} event).
+ */
+public class ExecutionNotification extends Notification<NeoApplicationLog.Notification> {
+}
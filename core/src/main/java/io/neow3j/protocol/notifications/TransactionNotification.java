@@ -0,0 +1,9 @@
+package io.neow3j.protocol.notifications;
+
+import io.neow3j.protocol.core.methods.response.Transaction;
+
+/**
+ * Notification of a transaction that was added to a block ({@code transaction_added} event).
+ */
+public class TransactionNotification extends Notification<Transaction> {
+}
@@ -4,6 +4,7 @@ import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.core.BlockParameter;
 import io.neow3j.protocol.core.BlockParameterIndex;
 import io.neow3j.protocol.core.BlockParameterName;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
 import io.neow3j.protocol.core.methods.response.NeoBlockCount;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
 import io.neow3j.protocol.core.methods.response.Transaction;
@@ -17,7 +18,9 @@ import io.reactivex.schedulers.Schedulers;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -25,14 +28,31 @@ import java.util.stream.Collectors;
  */
 public class JsonRpc2_0Rx {
 
+    private static final int SEQUENTIAL = 1;
+
     private final Neow3j neow3j;
     private final ScheduledExecutorService scheduledExecutorService;
     private final Scheduler scheduler;
+    private final boolean pushNotifications;
 
     public JsonRpc2_0Rx(Neow3j neow3j, ScheduledExecutorService scheduledExecutorService) {
+        this(neow3j, scheduledExecutorService, false);
+    }
+
+    /**
+     * Creates the reactive API.
+     *
+     * @param neow3j                   the neow3j instance to send requests with.
+     * @param scheduledExecutorService the executor to poll the node and run observables on.
+     * @param pushNotifications        if true, new blocks are observed with the block
+     *                                 notifications of the node instead of polling it.
+     */
+    public JsonRpc2_0Rx(Neow3j neow3j, ScheduledExecutorService scheduledExecutorService,
+            boolean pushNotifications) {
         this.neow3j = neow3j;
         this.scheduledExecutorService = scheduledExecutorService;
         this.scheduler = Schedulers.from(scheduledExecutorService);
+        this.pushNotifications = pushNotifications;
     }
 
     public Observable<BigInteger> neoBlockObservable(long pollingInterval) {
@@ -58,6 +78,79 @@ public class JsonRpc2_0Rx {
                 .subscribeOn(scheduler);
     }
 
+    /**
+     * Replays the blocks in the given range with up to {@code maxConcurrency} {@code getblock}
+     * requests in flight at the same time. The blocks are nonetheless emitted strictly in the
+     * order of their index.
+     *
+     * @param startBlock             block number to commence with
+     * @param endBlock               block number to finish with
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks
+     * @param ascending              if true, emits blocks in ascending order
+     * @param maxConcurrency         the maximum number of concurrent {@code getblock} requests
+     * @return Observable to emit these blocks
+     */
+    public Observable<NeoGetBlock> replayBlocksObservable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending, int maxConcurrency) {
+        checkMaxConcurrency(maxConcurrency);
+        return replayBlocksObservableSync(startBlock, endBlock, fullTransactionObjects, ascending,
+                maxConcurrency)
+                .subscribeOn(scheduler);
+    }
+
+    private Observable<NeoGetBlock> replayBlocksObservableSync(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending, int maxConcurrency) {
+
+        if (maxConcurrency == SEQUENTIAL) {
+            return replayBlocksObservableSync(startBlock, endBlock, fullTransactionObjects,
+                    ascending);
+        }
+
+        BigInteger startBlockNumber;
+        BigInteger endBlockNumber;
+        try {
+            startBlockNumber = getBlockNumber(startBlock);
+            endBlockNumber = getBlockNumber(endBlock);
+        } catch (IOException e) {
+            return Observable.error(e);
+        }
+
+        // concatMapEager subscribes to up to maxConcurrency requests at once, but buffers their
+        // results so that the blocks are emitted in the order of the range.
+        return Observables.range(startBlockNumber, endBlockNumber, ascending)
+                .concatMapEager(i -> fromFuture(() -> neow3j.getBlock(
+                        new BlockParameterIndex(i), fullTransactionObjects).sendAsync()),
+                        maxConcurrency, 1);
+    }
+
+    // Cancels the request if the observer is disposed before the response arrived, e.g., because
+    // an earlier block of the replay failed.
+    private static <T> Observable<T> fromFuture(Supplier<CompletableFuture<T>> futureSupplier) {
+        return Observable.create(subscriber -> {
+            CompletableFuture<T> future = futureSupplier.get();
+            subscriber.setCancellable(() -> future.cancel(false));
+            future.whenComplete((result, throwable) -> {
+                if (subscriber.isDisposed()) {
+                    return;
+                }
+                if (throwable != null) {
+                    subscriber.tryOnError(throwable);
+                } else {
+                    subscriber.onNext(result);
+                    subscriber.onComplete();
+                }
+            });
+        });
+    }
+
+    private static void checkMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be at least 1.");
+        }
+    }
+
     private Observable<NeoGetBlock> replayBlocksObservableSync(
             BlockParameter startBlock, BlockParameter endBlock,
             boolean fullTransactionObjects) {
@@ -102,9 +195,24 @@ public class JsonRpc2_0Rx {
                 startBlock, fullTransactionObjects, Observable.empty());
     }
 
+    public Observable<NeoGetBlock> catchUpToLatestBlockObservable(
+            BlockParameter startBlock, boolean fullTransactionObjects, int maxConcurrency) {
+        checkMaxConcurrency(maxConcurrency);
+        return catchUpToLatestBlockObservableSync(
+                startBlock, fullTransactionObjects, Observable.empty(), maxConcurrency)
+                .subscribeOn(scheduler);
+    }
+
     private Observable<NeoGetBlock> catchUpToLatestBlockObservableSync(
             BlockParameter startBlock, boolean fullTransactionObjects,
             Observable<NeoGetBlock> onCompleteObservable) {
+        return catchUpToLatestBlockObservableSync(
+                startBlock, fullTransactionObjects, onCompleteObservable, SEQUENTIAL);
+    }
+
+    private Observable<NeoGetBlock> catchUpToLatestBlockObservableSync(
+            BlockParameter startBlock, boolean fullTransactionObjects,
+            Observable<NeoGetBlock> onCompleteObservable, int maxConcurrency) {
 
         BigInteger startBlockNumber;
         BigInteger latestBlockNumber;
@@ -122,11 +230,11 @@ public class JsonRpc2_0Rx {
                     replayBlocksObservableSync(
                             new BlockParameterIndex(startBlockNumber),
                             new BlockParameterIndex(latestBlockNumber),
-                            fullTransactionObjects),
+                            fullTransactionObjects, true, maxConcurrency),
                     Observable.defer(() -> catchUpToLatestBlockObservableSync(
                             new BlockParameterIndex(latestBlockNumber.add(BigInteger.ONE)),
                             fullTransactionObjects,
-                            onCompleteObservable)));
+                            onCompleteObservable, maxConcurrency)));
         }
     }
 
@@ -147,11 +255,31 @@ public class JsonRpc2_0Rx {
     }
 
     public Observable<NeoGetBlock> blockObservable(boolean fullTransactionObjects, long pollingInterval) {
+        if (pushNotifications) {
+            return neow3j.blockNotifications()
+                    .map(notification -> toNeoGetBlock(notification.getParams().getResult(),
+                            fullTransactionObjects));
+        }
         return neoBlockObservable(pollingInterval)
                 .flatMap(blockIndex ->
                         neow3j.getBlock(new BlockParameterIndex(blockIndex), fullTransactionObjects).observable());
     }
 
+    private static NeoGetBlock toNeoGetBlock(NeoBlock block, boolean fullTransactionObjects) {
+        NeoGetBlock neoGetBlock = new NeoGetBlock();
+        if (fullTransactionObjects) {
+            neoGetBlock.setResult(block);
+        } else {
+            // Same as the block header that is polled without full transaction objects.
+            neoGetBlock.setResult(new NeoBlock(block.getHash(), block.getSize(),
+                    block.getVersion(), block.getPrevBlockHash(), block.getMerkleRootHash(),
+                    block.getTime(), block.getIndex(), block.getNextConsensus(),
+                    block.getWitnesses(), block.getConsensusData(), null,
+                    block.getConfirmations(), block.getNextBlockHash()));
+        }
+        return neoGetBlock;
+    }
+
     private static List<Transaction> toTransactions(NeoGetBlock neoGetBlock) {
         return neoGetBlock.getBlock().getTransactions().stream().collect(Collectors.toList());
     }
@@ -4,6 +4,9 @@ import io.neow3j.protocol.core.BlockParameter;
 import io.neow3j.protocol.core.methods.response.NeoBlock;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
 import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.notifications.BlockNotification;
+import io.neow3j.protocol.notifications.ExecutionNotification;
+import io.neow3j.protocol.notifications.TransactionNotification;
 import io.reactivex.Observable;
 
 /**
@@ -50,6 +53,26 @@ public interface Neow3jRx {
             BlockParameter startBlock, BlockParameter endBlock,
             boolean fullTransactionObjects, boolean ascending);
 
+    /**
+     * <p>Create an Observable that emits all blocks from the blockchain contained within the
+     * requested range, fetching up to {@code maxConcurrency} blocks at the same time.</p>
+     * <br>
+     * <p>The blocks are still emitted strictly in the order of their index. Blocks that arrive
+     * early are buffered until all preceding blocks have been emitted.</p>
+     *
+     * @param startBlock             block number to commence with
+     * @param endBlock               block number to finish with
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @param ascending              if true, emits blocks in ascending order between range, otherwise
+     *                               in descending order
+     * @param maxConcurrency         the maximum number of block requests in flight at the same time
+     * @return Observable to emit these blocks
+     */
+    Observable<NeoGetBlock> replayBlocksObservable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending, int maxConcurrency);
+
     /**
      * <p>Create an Observable that emits all transactions from the blockchain starting with a
      * provided block number. Once it has replayed up to the most current block, the provided
@@ -81,6 +104,21 @@ public interface Neow3jRx {
     Observable<NeoGetBlock> catchUpToLatestBlockObservable(
             BlockParameter startBlock, boolean fullTransactionObjects);
 
+    /**
+     * Creates an Observable that emits all blocks from the requested block number to the most
+     * current, fetching up to {@code maxConcurrency} blocks at the same time. The blocks are
+     * emitted strictly in the order of their index. Once it has emitted the most current block,
+     * onComplete is called.
+     *
+     * @param startBlock             the block number we wish to request from
+     * @param fullTransactionObjects if we require full {@link Transaction} objects to be provided
+     *                               in the {@link NeoBlock} responses
+     * @param maxConcurrency         the maximum number of block requests in flight at the same time
+     * @return Observable to emit all requested blocks
+     */
+    Observable<NeoGetBlock> catchUpToLatestBlockObservable(
+            BlockParameter startBlock, boolean fullTransactionObjects, int maxConcurrency);
+
     /**
      * Creates an Observable that emits all blocks from the requested block number to the most
      * current. Once it has emitted the most current block, it starts emitting new blocks as they
@@ -94,4 +132,29 @@ public interface Neow3jRx {
     Observable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksObservable(
             BlockParameter startBlock, boolean fullTransactionObjects);
 
+    /**
+     * Creates an Observable that emits a notification for every block that is added to the
+     * blockchain. Requires a service that supports subscriptions, e.g., a WebSocket service.
+     *
+     * @return Observable that emits the notifications of new blocks
+     */
+    Observable<BlockNotification> blockNotifications();
+
+    /**
+     * Creates an Observable that emits a notification for every transaction that is added to the
+     * blockchain. Requires a service that supports subscriptions, e.g., a WebSocket service.
+     *
+     * @return Observable that emits the notifications of new transactions
+     */
+    Observable<TransactionNotification> transactionNotifications();
+
+    /**
+     * Creates an Observable that emits the notifications that contracts emit during the
+     * execution of transactions. Requires a service that supports subscriptions, e.g., a
+     * WebSocket service.
+     *
+     * @return Observable that emits the contract notifications
+     */
+    Observable<ExecutionNotification> executionNotifications();
+
 }
@@ -0,0 +1,306 @@
+package io.neow3j.protocol.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.neow3j.protocol.MultiplexedService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoSubscribe;
+import io.neow3j.protocol.core.methods.response.NeoUnsubscribe;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>WebSocket implementation of the Service API.</p>
+ * <br>
+ * <p>Requests and server-push notifications share one WebSocket connection. Responses are
+ * matched to their requests by the JSON-RPC {@code id}, so any number of requests can be in
+ * flight at the same time. Subscriptions follow the {@code subscribe}/{@code unsubscribe}
+ * methods of the node, e.g. {@code subscribe} with the event {@code block_added}.</p>
+ * <br>
+ * <p>Responses and notifications are handed to the caller on the executor of this service,
+ * never on the thread that reads from the WebSocket, so that callbacks can send blocking
+ * requests over the same connection.</p>
+ */
+public class WebSocketService extends MultiplexedService {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketService.class);
+
+    private final WebSocketClient webSocketClient;
+
+    private final Map<String, WebSocketSubscription<?>> subscriptions = new ConcurrentHashMap<>();
+    private final Map<Long, WebSocketSubscription<?>> pendingSubscriptions =
+            new ConcurrentHashMap<>();
+    // Notifications are emitted in the order they were received, but not on the thread that
+    // reads from the connection, so that subscribers can make blocking requests.
+    private final Executor notificationExecutor =
+            new SerialExecutor(command -> getCompletionExecutor().execute(command));
+
+    public WebSocketService(String serverUrl, boolean includeRawResponses) {
+        this(new WebSocketClient(parseURI(serverUrl)), includeRawResponses);
+    }
+
+    public WebSocketService(WebSocketClient webSocketClient, boolean includeRawResponses) {
+        super(includeRawResponses);
+        this.webSocketClient = webSocketClient;
+    }
+
+    private static URI parseURI(String serverUrl) {
+        try {
+            return new URI(serverUrl);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(
+                    String.format("Failed to parse URL: '%s'", serverUrl), e);
+        }
+    }
+
+    /**
+     * Connects to the WebSocket server. Blocks until the connection is established.
+     *
+     * @throws ConnectException if the connection could not be established.
+     */
+    public void connect() throws ConnectException {
+        webSocketClient.setListener(new WebSocketListener() {
+            @Override
+            public void onMessage(String message) throws IOException {
+                WebSocketService.this.onMessage(message);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                log.error("Received error from a WebSocket connection", e);
+            }
+
+            @Override
+            public void onClose() {
+                closeOutstanding(new IOException("Connection was closed."));
+            }
+        });
+        try {
+            if (!webSocketClient.connectBlocking()) {
+                throw new ConnectException("Failed to connect to WebSocket server "
+                        + webSocketClient.getURI() + ".");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while connecting to WebSocket server "
+                    + webSocketClient.getURI() + ".");
+        }
+    }
+
+    @Override
+    protected void write(String payload) throws IOException {
+        try {
+            webSocketClient.send(payload);
+        } catch (WebsocketNotConnectedException e) {
+            throw new IOException("WebSocket is not connected.", e);
+        }
+    }
+
+    void onMessage(String message) throws IOException {
+        JsonNode messageNode = objectMapper.readTree(message);
+        JsonNode firstNode = messageNode.isArray() ? messageNode.get(0) : messageNode;
+        if (firstNode == null) {
+            log.warn("Received an empty batch response: {}", message);
+            return;
+        }
+        if (isNotification(firstNode)) {
+            onNotification(firstNode);
+        } else {
+            onResponse(firstNode, message);
+        }
+    }
+
+    private boolean isNotification(JsonNode node) {
+        return node.has("method") && !node.has("id");
+    }
+
+    private void onResponse(JsonNode firstNode, String message) {
+        JsonNode idNode = firstNode.get("id");
+        if (idNode == null || !idNode.canConvertToLong()) {
+            log.warn("Received a response without a valid id: {}", message);
+            return;
+        }
+        long id = idNode.asLong();
+        // Subscriptions are activated before any later message is read, so that no notification
+        // that follows the response to the subscription is missed.
+        WebSocketSubscription<?> subscription = pendingSubscriptions.remove(id);
+        JsonNode subscriptionId = firstNode.get("result");
+        if (subscription != null && subscriptionId != null && subscriptionId.isTextual()) {
+            subscriptions.put(subscriptionId.asText(), subscription);
+        }
+        if (!completeResponse(id,
+                new ByteArrayInputStream(message.getBytes(StandardCharsets.UTF_8)))) {
+            log.warn("Received a response that does not match any pending request: {}",
+                    message);
+        }
+    }
+
+    private void onNotification(JsonNode notificationNode) throws IOException {
+        String event = notificationNode.get("method").asText();
+        // The node sends the event data as the only element of the params array.
+        JsonNode params = notificationNode.get("params");
+        if (params != null && params.isArray()) {
+            ObjectNode normalizedParams = objectMapper.createObjectNode();
+            normalizedParams.set("result", params.get(0));
+            ((ObjectNode) notificationNode).set("params", normalizedParams);
+        }
+        for (WebSocketSubscription<?> subscription : subscriptions.values()) {
+            if (subscription.getEvent().equals(event)) {
+                subscription.emit(notificationNode);
+            }
+        }
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+
+        String event = String.valueOf(request.getParams().get(0));
+        return Observable.create(emitter -> {
+            AtomicReference<String> subscriptionId = new AtomicReference<>();
+            emitter.setCancellable(() -> {
+                pendingSubscriptions.remove(request.getId());
+                String id = subscriptionId.getAndSet(null);
+                if (id != null) {
+                    unsubscribe(id, unsubscribeMethod);
+                }
+            });
+            pendingSubscriptions.put(request.getId(),
+                    new WebSocketSubscription<>(event, responseType, emitter));
+            sendAsync(request, NeoSubscribe.class).whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    pendingSubscriptions.remove(request.getId());
+                    emitter.tryOnError(throwable);
+                } else if (response.hasError()) {
+                    emitter.tryOnError(new IOException("Subscription request failed with "
+                            + "error: " + response.getError().getMessage()));
+                } else {
+                    String id = response.getSubscriptionId();
+                    subscriptionId.set(id);
+                    if (emitter.isDisposed() && subscriptionId.compareAndSet(id, null)) {
+                        unsubscribe(id, unsubscribeMethod);
+                    }
+                }
+            });
+        });
+    }
+
+    @Override
+    public boolean supportsSubscriptions() {
+        return true;
+    }
+
+    private void unsubscribe(String subscriptionId, String unsubscribeMethod) {
+        subscriptions.remove(subscriptionId);
+        if (!webSocketClient.isOpen()) {
+            return;
+        }
+        Request<String, NeoUnsubscribe> unsubscribeRequest = new Request<>(unsubscribeMethod,
+                Collections.singletonList(subscriptionId), this, NeoUnsubscribe.class);
+        unsubscribeRequest.sendAsync().whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                log.error("Failed to unsubscribe from subscription {}", subscriptionId,
+                        throwable);
+            }
+        });
+    }
+
+    private void closeOutstanding(IOException e) {
+        failPendingResponses(e);
+        subscriptions.values().forEach(s -> s.onError(e));
+        subscriptions.clear();
+        pendingSubscriptions.clear();
+    }
+
+    @Override
+    public void close() {
+        webSocketClient.close();
+    }
+
+    private class WebSocketSubscription<T extends Notification<?>> {
+
+        private final String event;
+        private final Class<T> notificationType;
+        private final ObservableEmitter<T> emitter;
+
+        private WebSocketSubscription(String event, Class<T> notificationType,
+                ObservableEmitter<T> emitter) {
+            this.event = event;
+            this.notificationType = notificationType;
+            this.emitter = emitter;
+        }
+
+        private String getEvent() {
+            return event;
+        }
+
+        private void emit(JsonNode notificationNode) throws IOException {
+            T notification = objectMapper.treeToValue(notificationNode, notificationType);
+            notificationExecutor.execute(() -> emitter.onNext(notification));
+        }
+
+        private void onError(Throwable e) {
+            notificationExecutor.execute(() -> emitter.tryOnError(e));
+        }
+    }
+
+    /**
+     * Runs the given tasks one after another on an underlying executor.
+     */
+    private static class SerialExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private final Executor executor;
+        private Runnable active;
+
+        private SerialExecutor(Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public synchronized void execute(Runnable task) {
+            tasks.add(() -> {
+                try {
+                    task.run();
+                } finally {
+                    scheduleNext();
+                }
+            });
+            if (active == null) {
+                scheduleNext();
+            }
+        }
+
+        private synchronized void scheduleNext() {
+            active = tasks.poll();
+            if (active != null) {
+                try {
+                    executor.execute(active);
+                } catch (RejectedExecutionException e) {
+                    log.error("Failed to emit a notification", e);
+                    tasks.clear();
+                    active = null;
+                }
+            }
+        }
+    }
+}
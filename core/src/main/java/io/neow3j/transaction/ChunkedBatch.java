@@ -0,0 +1,48 @@
+package io.neow3j.transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Processes the elements of a batch in chunks that run in parallel on an executor.
+ */
+final class ChunkedBatch {
+
+    private ChunkedBatch() {
+    }
+
+    /**
+     * Maps all elements of the given batch. The batch is split into several chunks per thread,
+     * which evens out differences in the processing time of the elements.
+     *
+     * @param elements    the elements to map.
+     * @param mapper      the function that maps one chunk of elements to their results in the
+     *                    same order. It can set up state that is reused within the chunk.
+     * @param executor    the executor to run the chunks on.
+     * @param parallelism the number of threads of the executor to use.
+     * @param <T>         the type of the elements.
+     * @param <R>         the type of the results.
+     * @return the results in the order of the elements.
+     */
+    static <T, R> CompletableFuture<List<R>> mapAsync(List<T> elements,
+            Function<List<T>, List<R>> mapper, Executor executor, int parallelism) {
+
+        int chunks = Math.min(elements.size(), 4 * parallelism);
+        List<CompletableFuture<List<R>>> futures = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            List<T> chunk = elements.subList(
+                    (int) ((long) elements.size() * i / chunks),
+                    (int) ((long) elements.size() * (i + 1) / chunks));
+            futures.add(CompletableFuture.supplyAsync(() -> mapper.apply(chunk), executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> {
+                    List<R> results = new ArrayList<>(elements.size());
+                    futures.forEach(f -> results.addAll(f.join()));
+                    return results;
+                });
+    }
+}
@@ -105,10 +105,10 @@ public class Cosigner extends TransactionAttribute {
     @Override
     public void deserializeWithoutType(BinaryReader reader) throws DeserializationException {
         try {
-            this.account = reader.readSerializable(ScriptHash.class);
+            this.account = reader.readSerializable(ScriptHash::new);
             this.scopes = WitnessScope.extractCombinedScopes(reader.readByte());
             if (this.scopes.contains(WitnessScope.CUSTOM_CONTRACTS)) {
-                this.allowedContracts = reader.readSerializableList(ScriptHash.class);
+                this.allowedContracts = reader.readSerializableList(ScriptHash::new);
                 if (this.allowedContracts.size() > NeoConstants.MAX_COSIGNER_SUBITEMS) {
                     throw new DeserializationException("A cosigner's scope can only contain "
                             + NeoConstants.MAX_COSIGNER_SUBITEMS + " contracts. The input data "
@@ -116,7 +116,7 @@ public class Cosigner extends TransactionAttribute {
                 }
             }
             if (this.scopes.contains(WitnessScope.CUSTOM_GROUPS)) {
-                this.allowedGroups = reader.readSerializableList(ECKeyPair.ECPublicKey.class);
+                this.allowedGroups = reader.readSerializableList(ECKeyPair.ECPublicKey::new);
                 if (this.allowedGroups.size() > NeoConstants.MAX_COSIGNER_SUBITEMS) {
                     throw new DeserializationException("A cosigner's scope can only contain "
                             + NeoConstants.MAX_COSIGNER_SUBITEMS + " groups. The input data "
@@ -0,0 +1,203 @@
+package io.neow3j.transaction;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.contract.ScriptBuilder;
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.Hash;
+import io.neow3j.utils.LruCache;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.util.BigIntegers;
+
+/**
+ * Creates single-signature witnesses for large numbers of messages, e.g. transactions.
+ * <p>
+ * The signer state of a key (the private key parameters, the verification script and its script
+ * hash) is prepared once and reused for all following signatures with that key. A batch reuses
+ * one ECDSA signer per chunk. Signatures are deterministic (RFC 6979), so the witnesses are equal
+ * to the ones created with {@link Witness#createWitness(byte[], ECKeyPair)}.
+ * <p>
+ * The signer states of the {@value #MAX_CACHED_SIGNERS} most recently used key pairs are kept
+ * until {@link #clear()} is called.
+ */
+public class SigningService {
+
+    static final int MAX_CACHED_SIGNERS = 1_000;
+
+    private final Executor executor;
+    private final int parallelism;
+    private final LruCache<ECKeyPair, SignerState> signers =
+            new LruCache<>(MAX_CACHED_SIGNERS);
+
+    /**
+     * Creates a signing service that runs asynchronous signing in the common
+     * {@link ForkJoinPool}.
+     */
+    public SigningService() {
+        this(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Creates a signing service that runs asynchronous signing on the given executor.
+     *
+     * @param executor    the executor to sign on.
+     * @param parallelism the number of threads of the executor that should be used to sign a
+     *                    batch.
+     */
+    public SigningService(Executor executor, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1.");
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates a witness by signing the given message with the given key pair.
+     *
+     * @param message the message to sign, e.g. the hash data of a transaction.
+     * @param keyPair the key pair to sign with.
+     * @return the witness.
+     */
+    public Witness sign(byte[] message, ECKeyPair keyPair) {
+        return getSignerState(keyPair).sign(message);
+    }
+
+    /**
+     * Creates a witness for the given transaction, signed with the given key pair.
+     *
+     * @param transaction the transaction to sign.
+     * @param keyPair     the key pair to sign with.
+     * @return the witness.
+     */
+    public Witness sign(Transaction transaction, ECKeyPair keyPair) {
+        return sign(transaction.getHashData(), keyPair);
+    }
+
+    /**
+     * Creates a witness by signing the given message with the given key pair on the executor of
+     * this service.
+     *
+     * @param message the message to sign, e.g. the hash data of a transaction.
+     * @param keyPair the key pair to sign with.
+     * @return the witness.
+     */
+    public CompletableFuture<Witness> signAsync(byte[] message, ECKeyPair keyPair) {
+        SignerState signer = getSignerState(keyPair);
+        return CompletableFuture.supplyAsync(() -> signer.sign(message), executor);
+    }
+
+    /**
+     * Creates a witness for the given transaction, signed with the given key pair on the executor
+     * of this service.
+     *
+     * @param transaction the transaction to sign.
+     * @param keyPair     the key pair to sign with.
+     * @return the witness.
+     */
+    public CompletableFuture<Witness> signAsync(Transaction transaction, ECKeyPair keyPair) {
+        return signAsync(transaction.getHashData(), keyPair);
+    }
+
+    /**
+     * Signs all given messages with the given key pair. The messages are split into chunks that
+     * are signed in parallel on the executor of this service.
+     *
+     * @param messages the messages to sign.
+     * @param keyPair  the key pair to sign with.
+     * @return the witnesses in the order of the messages.
+     */
+    public CompletableFuture<List<Witness>> signAllAsync(List<byte[]> messages,
+            ECKeyPair keyPair) {
+
+        SignerState signer = getSignerState(keyPair);
+        return ChunkedBatch.mapAsync(messages, chunk -> {
+            ECDSASigner ecdsaSigner = signer.createSigner();
+            List<Witness> witnesses = new ArrayList<>(chunk.size());
+            for (byte[] message : chunk) {
+                witnesses.add(signer.sign(ecdsaSigner, message));
+            }
+            return witnesses;
+        }, executor, parallelism);
+    }
+
+    /**
+     * Signs all given transactions with the given key pair and adds the witnesses to them. The
+     * transactions are signed in parallel on the executor of this service.
+     *
+     * @param transactions the transactions to sign.
+     * @param keyPair      the key pair to sign with.
+     * @return a future that completes when all transactions are signed.
+     */
+    public CompletableFuture<Void> signTransactionsAsync(List<Transaction> transactions,
+            ECKeyPair keyPair) {
+
+        List<byte[]> messages = new ArrayList<>(transactions.size());
+        for (Transaction tx : transactions) {
+            messages.add(tx.getHashData());
+        }
+        return signAllAsync(messages, keyPair).thenAccept(witnesses -> {
+            for (int i = 0; i < transactions.size(); i++) {
+                transactions.get(i).addWitness(witnesses.get(i));
+            }
+        });
+    }
+
+    /**
+     * Removes the cached signer state of all key pairs used so far.
+     */
+    public void clear() {
+        signers.clear();
+    }
+
+    private SignerState getSignerState(ECKeyPair keyPair) {
+        return signers.computeIfAbsent(keyPair, SignerState::new);
+    }
+
+    private static class SignerState {
+
+        private final ECPrivateKeyParameters privateKey;
+        private final byte[] verificationScript;
+        private final ScriptHash scriptHash;
+
+        private SignerState(ECKeyPair keyPair) {
+            this.privateKey = new ECPrivateKeyParameters(keyPair.getPrivateKey().getInt(),
+                    NeoConstants.CURVE);
+            this.verificationScript = new VerificationScript(keyPair.getPublicKey()).getScript();
+            this.scriptHash = ScriptHash.fromScript(this.verificationScript);
+        }
+
+        private ECDSASigner createSigner() {
+            ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+            signer.init(true, privateKey);
+            return signer;
+        }
+
+        private Witness sign(byte[] message) {
+            return sign(createSigner(), message);
+        }
+
+        private Witness sign(ECDSASigner signer, byte[] message) {
+            BigInteger[] components = signer.generateSignature(Hash.sha256(message));
+            byte[] signature = new byte[64];
+            System.arraycopy(BigIntegers.asUnsignedByteArray(32, components[0]), 0,
+                    signature, 0, 32);
+            System.arraycopy(BigIntegers.asUnsignedByteArray(32, components[1]), 0,
+                    signature, 32, 32);
+            InvocationScript invocationScript = new InvocationScript(
+                    new ScriptBuilder().pushData(signature).toArray());
+            // The witnesses share the bytes of the verification script.
+            return new Witness(invocationScript, new VerificationScript(verificationScript),
+                    scriptHash);
+        }
+    }
+}
@@ -12,10 +12,10 @@ import io.neow3j.model.NeoConfig;
 import io.neow3j.transaction.exceptions.TransactionConfigurationException;
 import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Numeric;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -54,6 +54,11 @@ public class Transaction extends NeoSerializable {
     private byte[] script;
     private List<Witness> witnesses;
 
+    // The transaction data without witnesses and the transaction id, computed on first use. The
+    // witnesses are not part of it, so it stays valid when witnesses are added. The script and the
+    // attributes are only handed out as copies or read-only views, so they cannot invalidate it.
+    private volatile HashCache hashCache;
+
     public Transaction() {
         this.attributes = new ArrayList<>();
         this.witnesses = new ArrayList<>();
@@ -105,8 +110,13 @@ public class Transaction extends NeoSerializable {
         return networkFee;
     }
 
+    /**
+     * Gets the attributes of this transaction.
+     *
+     * @return a read-only view of the attributes.
+     */
     public List<TransactionAttribute> getAttributes() {
-        return attributes;
+        return Collections.unmodifiableList(attributes);
     }
 
     public List<Cosigner> getCosigners() {
@@ -116,8 +126,13 @@ public class Transaction extends NeoSerializable {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets the script of this transaction.
+     *
+     * @return a copy of the script.
+     */
     public byte[] getScript() {
-        return script;
+        return script == null ? null : script.clone();
     }
 
     public List<Witness> getWitnesses() {
@@ -132,31 +147,58 @@ public class Transaction extends NeoSerializable {
         this.witnesses.add(witness);
     }
 
+    /**
+     * Gets the id of this transaction, i.e., the double SHA-256 hash of its hash data in
+     * big-endian hex format.
+     * <p>
+     * The id is computed once and cached. It is recomputed if the configured
+     * {@link NeoConfig#magicNumber()} changes.
+     *
+     * @return the transaction id.
+     */
     public String getTxId() {
-        byte[] hash = Hash.sha256(Hash.sha256(getHashData()));
-        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(hash));
+        HashCache cache = getHashCache();
+        if (cache.txId == null) {
+            byte[] hash = Hash.hash256(cache.magicNumber, cache.unsignedData);
+            cache.txId = Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(hash));
+        }
+        return cache.txId;
+    }
+
+    private HashCache getHashCache() {
+        byte[] magicNumber = NeoConfig.magicNumber();
+        HashCache cache = this.hashCache;
+        if (cache == null || !cache.isFor(magicNumber)) {
+            cache = new HashCache(magicNumber, serializeWithoutWitnesses());
+            this.hashCache = cache;
+        }
+        return cache;
     }
 
     @Override
     public int getSize() {
+        return getSizeWithoutWitnesses() + IOUtils.getVarSize(this.witnesses);
+    }
+
+    private int getSizeWithoutWitnesses() {
         return HEADER_SIZE +
                 IOUtils.getVarSize(this.attributes) +
-                IOUtils.getVarSize(this.script) +
-                IOUtils.getVarSize(this.witnesses);
+                IOUtils.getVarSize(this.script);
     }
 
     @Override
     public void deserialize(BinaryReader reader) throws DeserializationException {
+        this.hashCache = null;
         try {
             this.version = reader.readByte();
             this.nonce = reader.readUInt32();
-            this.sender = reader.readSerializable(ScriptHash.class);
+            this.sender = reader.readSerializable(ScriptHash::new);
             this.systemFee = reader.readInt64();
             this.networkFee = reader.readInt64();
             this.validUntilBlock = reader.readUInt32();
             readTransactionAttributes(reader);
             this.script = reader.readVarBytes();
-            this.witnesses = reader.readSerializableList(Witness.class);
+            this.witnesses = reader.readSerializableList(Witness::new);
         } catch (IOException e) {
             throw new DeserializationException(e);
         }
@@ -201,12 +243,13 @@ public class Transaction extends NeoSerializable {
      * @return the serialized transaction
      */
     public byte[] toArrayWithoutWitnesses() {
-        try (ByteArrayOutputStream ms = new ByteArrayOutputStream()) {
-            try (BinaryWriter writer = new BinaryWriter(ms)) {
-                serializeWithoutWitnesses(writer);
-                writer.flush();
-                return ms.toByteArray();
-            }
+        return getHashCache().unsignedData.clone();
+    }
+
+    private byte[] serializeWithoutWitnesses() {
+        try (BinaryWriter writer = new BinaryWriter(getSizeWithoutWitnesses())) {
+            serializeWithoutWitnesses(writer);
+            return writer.toByteArray();
         } catch (IOException ex) {
             throw new UnsupportedOperationException(ex);
         }
@@ -221,7 +264,8 @@ public class Transaction extends NeoSerializable {
      * @return the transaction data ready for hashing.
      */
     public byte[] getHashData() {
-        return ArrayUtils.concatenate(NeoConfig.magicNumber(), toArrayWithoutWitnesses());
+        HashCache cache = getHashCache();
+        return ArrayUtils.concatenate(cache.magicNumber, cache.unsignedData);
     }
 
     /**
@@ -500,4 +544,20 @@ public class Transaction extends NeoSerializable {
             return witnesses;
         }
     }
+    private static class HashCache {
+
+        private final byte[] magicNumber;
+        private final byte[] unsignedData;
+        private volatile String txId;
+
+        private HashCache(byte[] magicNumber, byte[] unsignedData) {
+            this.magicNumber = magicNumber.clone();
+            this.unsignedData = unsignedData;
+        }
+
+        private boolean isFor(byte[] magicNumber) {
+            return Arrays.equals(this.magicNumber, magicNumber);
+        }
+    }
+
 }
@@ -0,0 +1,133 @@
+package io.neow3j.transaction;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.model.NeoConfig;
+import io.neow3j.protocol.Neow3j;
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Allocates nonces and valid until block numbers for transactions locally, so that building many
+ * transactions does not need a call to the neo-node for each of them.
+ * <p>
+ * The nonces are taken from a counter that starts at a random value. They don't repeat before
+ * 2<sup>32</sup> nonces are allocated. The chain height is cached and can be refreshed in the
+ * background with {@link #start(ScheduledExecutorService)}. One allocator can be shared by any
+ * number of threads.
+ */
+public class TransactionAllocator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionAllocator.class);
+
+    private static final long NO_BLOCK = -1;
+
+    private final Neow3j neow;
+    private final AtomicInteger nonce = new AtomicInteger(ThreadLocalRandom.current().nextInt());
+
+    private volatile long blockCount = NO_BLOCK;
+    private volatile ScheduledFuture<?> schedule;
+
+    /**
+     * Creates an allocator that fetches the chain height from the given node.
+     *
+     * @param neow the {@link Neow3j} instance to fetch the block count with.
+     */
+    public TransactionAllocator(Neow3j neow) {
+        this.neow = neow;
+    }
+
+    /**
+     * Fetches the block count and then refreshes it in the background every
+     * {@link NeoConfig#milliSecondsPerBlock()} milliseconds, until {@link #stop()} is called.
+     * Failed refreshes are logged and the last known block count is kept.
+     *
+     * @param scheduledExecutorService the executor to refresh the block count on.
+     * @throws IOException if the first fetch of the block count fails.
+     */
+    public void start(ScheduledExecutorService scheduledExecutorService) throws IOException {
+        refresh();
+        long interval = NeoConfig.milliSecondsPerBlock();
+        this.schedule = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (Throwable e) {
+                LOG.warn("Failed to refresh the block count.", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops refreshing the block count in the background.
+     */
+    public void stop() {
+        ScheduledFuture<?> s = this.schedule;
+        if (s != null) {
+            s.cancel(false);
+        }
+    }
+
+    /**
+     * Fetches the current block count from the neo-node.
+     *
+     * @throws IOException if something goes wrong when communicating with the neo-node.
+     */
+    public void refresh() throws IOException {
+        setBlockCount(neow.getBlockCount().send().getBlockIndex().longValue());
+    }
+
+    /**
+     * Sets the block count, e.g. as received from a block notification. A lower block count than
+     * the known one is ignored.
+     *
+     * @param blockCount the block count.
+     */
+    public synchronized void setBlockCount(long blockCount) {
+        if (blockCount > this.blockCount) {
+            this.blockCount = blockCount;
+        }
+    }
+
+    /**
+     * Gets the cached block count.
+     *
+     * @return the block count.
+     * @throws IllegalStateException if the block count was neither fetched nor set yet.
+     */
+    public long getBlockCount() {
+        long count = this.blockCount;
+        if (count == NO_BLOCK) {
+            throw new IllegalStateException("The block count is not known yet. Refresh or set "
+                    + "it first.");
+        }
+        return count;
+    }
+
+    /**
+     * Gets the highest valid until block number that the neo-node accepts with the cached block
+     * count.
+     *
+     * @return the valid until block number.
+     * @throws IllegalStateException if the block count was neither fetched nor set yet.
+     * @see Transaction.Builder#validUntilBlock(long)
+     */
+    public long nextValidUntilBlock() {
+        // Decremented by 1, like in the invocation builder, so that the node doesn't reject it.
+        return getBlockCount() + NeoConstants.MAX_VALID_UNTIL_BLOCK_INCREMENT - 1;
+    }
+
+    /**
+     * Allocates the next nonce.
+     *
+     * @return the nonce in the range [0, 2^32).
+     * @see Transaction.Builder#nonce(Long)
+     */
+    public long nextNonce() {
+        return Integer.toUnsignedLong(nonce.getAndIncrement());
+    }
+}
@@ -59,10 +59,10 @@ public abstract class TransactionAttribute extends NeoSerializable {
 
         try {
             TransactionAttributeType type = TransactionAttributeType.valueOf(reader.readByte());
-            TransactionAttribute a = type.clazz().newInstance();
+            TransactionAttribute a = type.newAttribute();
             a.deserializeWithoutType(reader);
             return a;
-        } catch (IOException | IllegalAccessException | InstantiationException e) {
+        } catch (IOException e) {
             throw new DeserializationException(e);
         }
     }
@@ -3,21 +3,26 @@ package io.neow3j.transaction;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
+import java.util.function.Supplier;
+
 public enum TransactionAttributeType {
 
-    COSIGNER("Cosigner", 0x01, Cosigner.class);
+    COSIGNER("Cosigner", 0x01, Cosigner.class, Cosigner::new);
 
     public static final String COSIGNER_VALUE = "Cosigner";
 
     private String jsonValue;
     private byte byteValue;
     private Class<? extends TransactionAttribute> clazz;
+    private Supplier<? extends TransactionAttribute> factory;
 
     TransactionAttributeType(String jsonValue, int byteValue,
-            Class<? extends TransactionAttribute> clazz) {
+            Class<? extends TransactionAttribute> clazz,
+            Supplier<? extends TransactionAttribute> factory) {
         this.jsonValue = jsonValue;
         this.byteValue = (byte) byteValue;
         this.clazz = clazz;
+        this.factory = factory;
     }
 
     public static TransactionAttributeType valueOf(byte byteValue) {
@@ -62,4 +67,13 @@ public enum TransactionAttributeType {
         return this.clazz;
     }
 
+    /**
+     * Creates an empty attribute of this type, e.g. for deserialization.
+     *
+     * @return the new attribute.
+     */
+    TransactionAttribute newAttribute() {
+        return this.factory.get();
+    }
+
 }
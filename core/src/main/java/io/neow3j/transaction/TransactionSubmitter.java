@@ -0,0 +1,266 @@
+package io.neow3j.transaction;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
+import io.neow3j.utils.Numeric;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Sends large numbers of signed transactions to the neo-node via the <tt>sendrawtransaction</tt>
+ * RPC.
+ * <p>
+ * The transactions are taken from the source only when they can be sent, so at most
+ * {@code maxInFlight * batchSize} of them are held at a time. They are serialized off the caller
+ * thread and sent in batches of up to {@code batchSize} requests, with at most
+ * {@code maxInFlight} calls to the node in flight. A batch size of 1 sends each transaction in
+ * its own request.
+ */
+public class TransactionSubmitter {
+
+    private final Neow3j neow;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final int batchSize;
+
+    private TransactionSubmitter(Builder builder) {
+        this.neow = builder.neow;
+        this.executor = builder.executor;
+        this.maxInFlight = builder.maxInFlight;
+        this.batchSize = builder.batchSize;
+    }
+
+    /**
+     * Sends all given transactions.
+     *
+     * @param transactions the signed transactions to send.
+     * @param listener     the listener that receives the result of each transaction.
+     * @return a future that completes when a result was received for every transaction.
+     * @see #submit(Iterator, ResultListener)
+     */
+    public CompletableFuture<Void> submit(Stream<Transaction> transactions,
+            ResultListener listener) {
+        return submit(transactions.iterator(), listener);
+    }
+
+    /**
+     * Sends all transactions of the given iterator. The iterator is only accessed by one thread
+     * at a time.
+     * <p>
+     * The result of each transaction is passed to the listener as soon as it arrives. The
+     * listener can be called from multiple threads at the same time. The returned future
+     * completes exceptionally if the iterator or the listener throw an exception. No more
+     * transactions are sent after that.
+     *
+     * @param transactions the signed transactions to send.
+     * @param listener     the listener that receives the result of each transaction.
+     * @return a future that completes when a result was received for every transaction.
+     */
+    public CompletableFuture<Void> submit(Iterator<Transaction> transactions,
+            ResultListener listener) {
+        Submission submission = new Submission(transactions, listener);
+        for (int i = 0; i < maxInFlight; i++) {
+            submission.sendNext();
+        }
+        return submission.done;
+    }
+
+    /**
+     * Receives the results of submitted transactions.
+     */
+    public interface ResultListener {
+
+        /**
+         * Called with the response of the neo-node to a transaction. The response can hold an
+         * error, e.g. if the node rejected the transaction.
+         *
+         * @param transaction the transaction.
+         * @param response    the response of the neo-node.
+         */
+        void onResponse(Transaction transaction, NeoSendRawTransaction response);
+
+        /**
+         * Called if a transaction could not be sent, e.g. because of a connection problem.
+         *
+         * @param transaction the transaction.
+         * @param error       the cause of the failure.
+         */
+        void onFailure(Transaction transaction, Throwable error);
+    }
+
+    private class Submission {
+
+        private final Iterator<Transaction> transactions;
+        private final ResultListener listener;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        // The number of sending loops that have not run out of transactions yet.
+        private final AtomicInteger activeLoops = new AtomicInteger(maxInFlight);
+
+        private Submission(Iterator<Transaction> transactions, ResultListener listener) {
+            this.transactions = transactions;
+            this.listener = listener;
+        }
+
+        // Sends the next batch of transactions and schedules the following one once the results
+        // are reported.
+        private void sendNext() {
+            List<Transaction> batch;
+            try {
+                batch = nextBatch();
+            } catch (Throwable e) {
+                done.completeExceptionally(e);
+                return;
+            }
+            if (batch.isEmpty()) {
+                if (activeLoops.decrementAndGet() == 0) {
+                    done.complete(null);
+                }
+                return;
+            }
+            CompletableFuture.supplyAsync(() -> toRequests(batch), executor)
+                    .thenCompose(requests -> send(batch, requests))
+                    .whenComplete((v, e) -> {
+                        if (e != null) {
+                            done.completeExceptionally(e);
+                        } else {
+                            // Continue on the executor to not block the IO thread of the
+                            // transport.
+                            try {
+                                executor.execute(this::sendNext);
+                            } catch (RuntimeException rejected) {
+                                done.completeExceptionally(rejected);
+                            }
+                        }
+                    });
+        }
+
+        private List<Transaction> nextBatch() {
+            List<Transaction> batch = new ArrayList<>(batchSize);
+            if (done.isDone()) {
+                return batch;
+            }
+            synchronized (transactions) {
+                while (batch.size() < batchSize && transactions.hasNext()) {
+                    batch.add(transactions.next());
+                }
+            }
+            return batch;
+        }
+
+        private List<Request<?, NeoSendRawTransaction>> toRequests(List<Transaction> batch) {
+            List<Request<?, NeoSendRawTransaction>> requests = new ArrayList<>(batch.size());
+            for (Transaction tx : batch) {
+                requests.add(neow.sendRawTransaction(Numeric.toHexStringNoPrefix(tx.toArray())));
+            }
+            return requests;
+        }
+
+        // Completes normally if the results were passed to the listener, also if the call to the
+        // node failed.
+        private CompletableFuture<Void> send(List<Transaction> batch,
+                List<Request<?, NeoSendRawTransaction>> requests) {
+
+            if (requests.size() == 1) {
+                return requests.get(0).sendAsync().handle((response, e) -> {
+                    report(batch.get(0), response, e);
+                    return null;
+                });
+            }
+            BatchRequest batchRequest = neow.newBatch().addAll(requests);
+            return batchRequest.sendAsync().handle((batchResponse, e) -> {
+                for (int i = 0; i < batch.size(); i++) {
+                    report(batch.get(i), e == null
+                            ? (NeoSendRawTransaction) batchResponse.getResponses().get(i)
+                            : null, e);
+                }
+                return null;
+            });
+        }
+
+        private void report(Transaction tx, NeoSendRawTransaction response, Throwable e) {
+            if (e != null) {
+                listener.onFailure(tx, e);
+            } else {
+                listener.onResponse(tx, response);
+            }
+        }
+    }
+
+    public static class Builder {
+
+        private final Neow3j neow;
+        private Executor executor;
+        private int maxInFlight;
+        private int batchSize;
+
+        /**
+         * Creates a builder for a submitter that sends transactions to the given node.
+         *
+         * @param neow the {@link Neow3j} instance to send the transactions with.
+         */
+        public Builder(Neow3j neow) {
+            if (neow == null) {
+                throw new IllegalArgumentException("Neow3j instance must not be null.");
+            }
+            this.neow = neow;
+            this.executor = ForkJoinPool.commonPool();
+            this.maxInFlight = 4;
+            this.batchSize = 10;
+        }
+
+        /**
+         * Sets the executor on which the transactions are serialized. Defaults to the common
+         * pool.
+         *
+         * @param executor the executor.
+         * @return this builder.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of calls to the neo-node that are in flight at the same time.
+         * Defaults to 4.
+         *
+         * @param maxInFlight the maximum number of calls.
+         * @return this builder.
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("The maximum number of calls in flight must "
+                        + "be at least 1.");
+            }
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of transactions that are sent in one JSON-RPC batch. Defaults
+         * to 10.
+         *
+         * @param batchSize the batch size.
+         * @return this builder.
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("The batch size must be at least 1.");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public TransactionSubmitter build() {
+            return new TransactionSubmitter(this);
+        }
+    }
+}
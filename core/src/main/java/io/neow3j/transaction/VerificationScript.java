@@ -15,7 +15,6 @@ import io.neow3j.io.NeoSerializable;
 import io.neow3j.io.exceptions.DeserializationException;
 import io.neow3j.transaction.exceptions.ScriptFormatException;
 import io.neow3j.utils.ArrayUtils;
-import io.neow3j.utils.Numeric;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -157,13 +156,12 @@ public class VerificationScript extends NeoSerializable {
         if (script.length != 41) {
             return false;
         }
-        String interopService = Numeric.toHexStringNoPrefix(ArrayUtils.getLastNBytes(script, 4));
         return script[0] == OpCode.PUSHDATA1.getValue()
                 && script[1] == 33 // 33 bytes of public key
                 && script[35] == OpCode.PUSHNULL.getValue()
                 && script[36] == OpCode.SYSCALL.getValue()
-                && interopService.equals(
-                        InteropServiceCode.NEO_CRYPTO_ECDSA_SECP256R1_VERIFY.getHash());
+                && Arrays.equals(ArrayUtils.getLastNBytes(script, 4),
+                        InteropServiceCode.NEO_CRYPTO_ECDSA_SECP256R1_VERIFY.getHashBytes());
     }
 
     /**
@@ -216,8 +214,8 @@ public class VerificationScript extends NeoSerializable {
             }
             byte[] interopServiceCode = new byte[4];
             reader.read(interopServiceCode, 0, 4);
-            if (!Numeric.toHexStringNoPrefix(interopServiceCode)
-                    .equals(InteropServiceCode.NEO_CRYPTO_ECDSA_SECP256R1_CHECKMULTISIG.getHash())) {
+            if (!Arrays.equals(interopServiceCode,
+                    InteropServiceCode.NEO_CRYPTO_ECDSA_SECP256R1_CHECKMULTISIG.getHashBytes())) {
                 return false;
             }
         } catch (DeserializationException | IOException e) {
@@ -57,12 +57,20 @@ public class Witness extends NeoSerializable {
     public Witness(InvocationScript invocationScript, VerificationScript verificationScript) {
         this.invocationScript = invocationScript;
         this.verificationScript = verificationScript;
-        if (verificationScript == null || verificationScript.getScriptHash() == null) {
+        this.scriptHash = verificationScript == null ? null : verificationScript.getScriptHash();
+        if (this.scriptHash == null) {
             throw new IllegalArgumentException("The script hash cannot be produced. " +
                     "The verification script must not be null because the script hash is derived " +
                     "from it.");
         }
-        this.scriptHash = verificationScript.getScriptHash();
+    }
+
+    // Used if the script hash of the verification script is already known.
+    Witness(InvocationScript invocationScript, VerificationScript verificationScript,
+            ScriptHash scriptHash) {
+        this.invocationScript = invocationScript;
+        this.verificationScript = verificationScript;
+        this.scriptHash = scriptHash;
     }
 
     /**
@@ -153,8 +161,8 @@ public class Witness extends NeoSerializable {
 
     @Override
     public void deserialize(BinaryReader reader) throws DeserializationException {
-        this.invocationScript = reader.readSerializable(InvocationScript.class);
-        this.verificationScript = reader.readSerializable(VerificationScript.class);
+        this.invocationScript = reader.readSerializable(InvocationScript::new);
+        this.verificationScript = reader.readSerializable(VerificationScript::new);
         this.scriptHash = verificationScript.getScriptHash();
     }
 
@@ -0,0 +1,245 @@
+package io.neow3j.transaction;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.constants.OpCode;
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.crypto.Hash;
+import io.neow3j.utils.LruCache;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+
+/**
+ * Verifies single-signature and multi-signature witnesses offline, e.g. to check incoming
+ * (partially) signed transactions before forwarding them to a node.
+ * <p>
+ * A witness is valid if its invocation script only pushes signatures and its verification script
+ * is a single-sig or multi-sig script whose signature check succeeds on the given message. As on
+ * the node, the signatures of a multi-sig witness have to be in the same order as their public
+ * keys. Witnesses with other verification scripts, e.g. of contracts, are reported as invalid.
+ * <p>
+ * The public keys of the verification scripts seen so far are decoded once and kept together with
+ * the precomputed point multiples that the signature check builds for them, which makes repeated
+ * checks against the same keys faster. The {@value #MAX_CACHED_SCRIPTS} most recently used
+ * scripts are kept until {@link #clear()} is called.
+ */
+public class WitnessVerifier {
+
+    static final int MAX_CACHED_SCRIPTS = 10_000;
+
+    private static final int SIGNATURE_SIZE = 64;
+
+    private final Executor executor;
+    private final int parallelism;
+    private final LruCache<ByteBuffer, ScriptState> scripts = new LruCache<>(MAX_CACHED_SCRIPTS);
+
+    /**
+     * Creates a witness verifier that runs asynchronous verification in the common
+     * {@link ForkJoinPool}.
+     */
+    public WitnessVerifier() {
+        this(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Creates a witness verifier that runs asynchronous verification on the given executor.
+     *
+     * @param executor    the executor to verify on.
+     * @param parallelism the number of threads of the executor that should be used to verify a
+     *                    batch.
+     */
+    public WitnessVerifier(Executor executor, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1.");
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Checks if the given witness holds valid signatures of the given message.
+     *
+     * @param message the signed message, e.g. the hash data of a transaction.
+     * @param witness the witness to verify.
+     * @return true if the witness is valid. False, otherwise.
+     */
+    public boolean verify(byte[] message, Witness witness) {
+        return verifyHash(Hash.sha256(message), witness);
+    }
+
+    /**
+     * Checks the witnesses of the given transaction. Every witness must be valid and belong to the
+     * sender or one of the cosigners of the transaction. Witnesses that are not yet added are not
+     * checked, so that partially signed transactions can be verified as well.
+     *
+     * @param transaction the transaction to verify.
+     * @return true if all witnesses of the transaction are valid. False, otherwise.
+     */
+    public boolean verify(Transaction transaction) {
+        List<Witness> witnesses = transaction.getWitnesses();
+        if (witnesses.isEmpty()) {
+            return true;
+        }
+        byte[] hash = Hash.sha256(transaction.getHashData());
+        for (Witness witness : witnesses) {
+            if (!isSigner(transaction, witness.getScriptHash()) || !verifyHash(hash, witness)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks the witnesses of the given transaction on the executor of this verifier.
+     *
+     * @param transaction the transaction to verify.
+     * @return true if all witnesses of the transaction are valid. False, otherwise.
+     * @see #verify(Transaction)
+     */
+    public CompletableFuture<Boolean> verifyAsync(Transaction transaction) {
+        return CompletableFuture.supplyAsync(() -> verify(transaction), executor);
+    }
+
+    /**
+     * Checks the witnesses of all given transactions. The transactions are split into chunks
+     * that are verified in parallel on the executor of this verifier.
+     *
+     * @param transactions the transactions to verify.
+     * @return the results in the order of the transactions.
+     * @see #verify(Transaction)
+     */
+    public CompletableFuture<List<Boolean>> verifyAllAsync(List<Transaction> transactions) {
+        return ChunkedBatch.mapAsync(transactions, chunk -> {
+            List<Boolean> results = new ArrayList<>(chunk.size());
+            for (Transaction transaction : chunk) {
+                results.add(verify(transaction));
+            }
+            return results;
+        }, executor, parallelism);
+    }
+
+    /**
+     * Removes the cached public keys of all verification scripts seen so far.
+     */
+    public void clear() {
+        scripts.clear();
+    }
+
+    private boolean isSigner(Transaction transaction, ScriptHash scriptHash) {
+        if (scriptHash == null) {
+            return false;
+        }
+        if (scriptHash.equals(transaction.getSender())) {
+            return true;
+        }
+        return transaction.getCosigners().stream()
+                .anyMatch(c -> scriptHash.equals(c.getScriptHash()));
+    }
+
+    private boolean verifyHash(byte[] hash, Witness witness) {
+        if (witness.getVerificationScript() == null) {
+            return false;
+        }
+        ScriptState script = getScriptState(witness.getVerificationScript().getScript());
+        if (script == null) {
+            return false;
+        }
+        BigInteger[][] signatures = readSignatures(witness.getInvocationScript().getScript());
+        if (signatures == null || signatures.length != script.threshold) {
+            return false;
+        }
+        ECDSASigner signer = new ECDSASigner();
+        int keyIndex = 0;
+        for (BigInteger[] signature : signatures) {
+            // The signatures have to match the keys in order. Keys without signature are skipped.
+            boolean matched = false;
+            while (!matched && keyIndex < script.keys.length) {
+                signer.init(false, script.keys[keyIndex++]);
+                matched = signer.verifySignature(hash, signature[0], signature[1]);
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ScriptState getScriptState(byte[] verificationScript) {
+        ByteBuffer key = ByteBuffer.wrap(verificationScript);
+        ScriptState state = scripts.get(key);
+        if (state != null) {
+            return state;
+        }
+        state = ScriptState.of(verificationScript);
+        if (state == null) {
+            return null;
+        }
+        return scripts.putIfAbsent(ByteBuffer.wrap(verificationScript.clone()), state);
+    }
+
+    /**
+     * Reads the signatures pushed by the given invocation script.
+     *
+     * @return the r and s values of the signatures, or null if the script does not only consist of
+     * signature pushes.
+     */
+    private static BigInteger[][] readSignatures(byte[] invocationScript) {
+        int pushSize = 2 + SIGNATURE_SIZE;
+        if (invocationScript.length == 0 || invocationScript.length % pushSize != 0) {
+            return null;
+        }
+        BigInteger[][] signatures = new BigInteger[invocationScript.length / pushSize][];
+        for (int i = 0; i < signatures.length; i++) {
+            int offset = i * pushSize;
+            if (invocationScript[offset] != OpCode.PUSHDATA1.getValue()
+                    || invocationScript[offset + 1] != SIGNATURE_SIZE) {
+                return null;
+            }
+            signatures[i] = new BigInteger[]{
+                    new BigInteger(1, Arrays.copyOfRange(invocationScript, offset + 2,
+                            offset + 2 + SIGNATURE_SIZE / 2)),
+                    new BigInteger(1, Arrays.copyOfRange(invocationScript,
+                            offset + 2 + SIGNATURE_SIZE / 2, offset + pushSize))};
+        }
+        return signatures;
+    }
+
+    private static class ScriptState {
+
+        private final int threshold;
+        // The points of these parameters carry the precomputed multiples used during verification.
+        private final ECPublicKeyParameters[] keys;
+
+        private ScriptState(int threshold, ECPublicKeyParameters[] keys) {
+            this.threshold = threshold;
+            this.keys = keys;
+        }
+
+        private static ScriptState of(byte[] verificationScript) {
+            VerificationScript script = new VerificationScript(verificationScript);
+            List<ECPublicKey> publicKeys;
+            try {
+                publicKeys = script.getPublicKeys();
+            } catch (RuntimeException e) {
+                // Not a signature script or a script with invalid public keys.
+                return null;
+            }
+            ECPublicKeyParameters[] keys = new ECPublicKeyParameters[publicKeys.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = new ECPublicKeyParameters(
+                        NeoConstants.CURVE.getCurve().decodePoint(
+                                publicKeys.get(i).getEncoded(true)),
+                        NeoConstants.CURVE);
+            }
+            return new ScriptState(script.getSigningThreshold(), keys);
+        }
+    }
+}
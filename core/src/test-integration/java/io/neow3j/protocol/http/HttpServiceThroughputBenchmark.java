@@ -0,0 +1,92 @@
+package io.neow3j.protocol.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Compares the throughput of asynchronous requests of an {@link HttpService} with a default HTTP
+ * client against one built with {@link HttpService.Builder}. A local WireMock server stands in
+ * for the node and answers every request with a fixed delay.
+ */
+public class HttpServiceThroughputBenchmark {
+
+    private static final Logger LOG = LoggerFactory.getLogger(
+            HttpServiceThroughputBenchmark.class);
+
+    private static final int NODE_LATENCY_MILLIS = 50;
+    private static final int WARM_UP_REQUESTS = 50;
+    private static final int REQUESTS = 500;
+
+    private WireMockServer wireMockServer;
+
+    @Before
+    public void setUp() {
+        wireMockServer = new WireMockServer(options().dynamicPort().containerThreads(200));
+        wireMockServer.start();
+        wireMockServer.stubFor(post(urlEqualTo("/"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}")
+                        .withFixedDelay(NODE_LATENCY_MILLIS)));
+    }
+
+    @After
+    public void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    public void compareDefaultAndTunedThroughput() throws Exception {
+        String url = "http://localhost:" + wireMockServer.port() + "/";
+
+        double defaultThroughput = measureThroughput(new HttpService(url));
+        double tunedThroughput = measureThroughput(new HttpService.Builder()
+                .url(url)
+                .maxRequests(128)
+                .maxRequestsPerHost(128)
+                .maxIdleConnections(128)
+                .build());
+
+        LOG.info("Default HttpService: {} requests/s", String.format("%.1f", defaultThroughput));
+        LOG.info("Tuned HttpService:   {} requests/s", String.format("%.1f", tunedThroughput));
+        assertThat(tunedThroughput, greaterThan(defaultThroughput));
+    }
+
+    private double measureThroughput(HttpService httpService) throws Exception {
+        Neow3j neow3j = Neow3j.build(httpService);
+        sendRequests(neow3j, WARM_UP_REQUESTS);
+
+        long start = System.nanoTime();
+        sendRequests(neow3j, REQUESTS);
+        long elapsedNanos = System.nanoTime() - start;
+        return REQUESTS / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private void sendRequests(Neow3j neow3j, int count) throws Exception {
+        List<CompletableFuture<NeoBlockCount>> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            responses.add(neow3j.getBlockCount().sendAsync());
+        }
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0]))
+                .get(1, TimeUnit.MINUTES);
+    }
+}
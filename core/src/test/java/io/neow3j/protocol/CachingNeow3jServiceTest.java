@@ -0,0 +1,161 @@
+package io.neow3j.protocol;
+
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetRawBlock;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingNeow3jServiceTest {
+
+    private Neow3jService neow3jService;
+    private CachingNeow3jService cachingService;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() {
+        neow3jService = mock(Neow3jService.class);
+        cachingService = new CachingNeow3jService(neow3jService);
+        neow3j = Neow3j.build(cachingService);
+    }
+
+    @Test
+    public void testImmutableResponseIsCached() throws IOException {
+        NeoGetBlock block = blockResponse("0x02");
+        when(neow3jService.send(any(Request.class), eq(NeoGetBlock.class))).thenReturn(block);
+
+        NeoGetBlock first = neow3j.getBlock(new BlockParameterIndex(1), false).send();
+        NeoGetBlock second = neow3j.getBlock(new BlockParameterIndex(1), false).send();
+
+        assertThat(second, sameInstance(first));
+        verify(neow3jService, times(1)).send(any(Request.class), eq(NeoGetBlock.class));
+        assertThat(cachingService.getHitCount(), is(1L));
+        assertThat(cachingService.getMissCount(), is(1L));
+        assertThat(cachingService.getSize(), is(1));
+    }
+
+    @Test
+    public void testRequestsWithDifferentParamsAreCachedSeparately() throws IOException {
+        when(neow3jService.send(any(Request.class), eq(NeoGetBlock.class)))
+                .thenReturn(blockResponse("0x02"));
+
+        neow3j.getBlock(new BlockParameterIndex(1), false).send();
+        neow3j.getBlock(new BlockParameterIndex(2), false).send();
+
+        verify(neow3jService, times(2)).send(any(Request.class), eq(NeoGetBlock.class));
+        assertThat(cachingService.getSize(), is(2));
+    }
+
+    @Test
+    public void testLatestBlockIsNotCached() throws IOException {
+        when(neow3jService.send(any(Request.class), eq(NeoGetBlock.class)))
+                .thenReturn(blockResponse(null));
+
+        neow3j.getBlock(new BlockParameterIndex(1), false).send();
+        neow3j.getBlock(new BlockParameterIndex(1), false).send();
+
+        verify(neow3jService, times(2)).send(any(Request.class), eq(NeoGetBlock.class));
+        assertThat(cachingService.getSize(), is(0));
+    }
+
+    @Test
+    public void testMutableMethodIsNotCached() throws IOException {
+        NeoBlockCount blockCount = new NeoBlockCount();
+        blockCount.setResult(BigInteger.TEN);
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(blockCount);
+
+        neow3j.getBlockCount().send();
+        neow3j.getBlockCount().send();
+
+        verify(neow3jService, times(2)).send(any(Request.class), eq(NeoBlockCount.class));
+        assertThat(cachingService.getHitCount(), is(0L));
+        assertThat(cachingService.getMissCount(), is(0L));
+    }
+
+    @Test
+    public void testAsyncResponseIsCached() throws Exception {
+        NeoGetRawBlock rawBlock = new NeoGetRawBlock();
+        rawBlock.setResult("00000000");
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetRawBlock.class)))
+                .thenReturn(CompletableFuture.completedFuture(rawBlock));
+
+        neow3j.getRawBlock(new BlockParameterIndex(1)).sendAsync().get();
+        NeoGetRawBlock cached = neow3j.getRawBlock(new BlockParameterIndex(1)).sendAsync().get();
+
+        assertThat(cached, sameInstance(rawBlock));
+        verify(neow3jService, times(1))
+                .sendAsync(any(Request.class), eq(NeoGetRawBlock.class));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResponseIsEvicted() throws IOException {
+        NeoGetRawBlock rawBlock = new NeoGetRawBlock();
+        rawBlock.setResult("00000000");
+        when(neow3jService.send(any(Request.class), eq(NeoGetRawBlock.class)))
+                .thenReturn(rawBlock);
+        // Each cached result weighs 10 bytes ("00000000" including the quotes).
+        cachingService = new CachingNeow3jService(neow3jService, 25);
+        neow3j = Neow3j.build(cachingService);
+
+        neow3j.getRawBlock(new BlockParameterIndex(1)).send();
+        neow3j.getRawBlock(new BlockParameterIndex(2)).send();
+        neow3j.getRawBlock(new BlockParameterIndex(1)).send();
+        neow3j.getRawBlock(new BlockParameterIndex(3)).send();
+
+        assertThat(cachingService.getSize(), is(2));
+        assertThat(cachingService.getWeight(), is(20L));
+        assertThat(cachingService.getEvictionCount(), is(1L));
+        neow3j.getRawBlock(new BlockParameterIndex(1)).send();
+        assertThat(cachingService.getHitCount(), is(2L));
+    }
+
+    @Test
+    public void testResponseIsWeighedByItsSize() throws IOException {
+        NeoGetRawBlock rawBlock = new NeoGetRawBlock();
+        rawBlock.setResult("00000000");
+        rawBlock.setResponseSize(60);
+        when(neow3jService.send(any(Request.class), eq(NeoGetRawBlock.class)))
+                .thenReturn(rawBlock);
+
+        neow3j.getRawBlock(new BlockParameterIndex(1)).send();
+
+        assertThat(cachingService.getWeight(), is(60L));
+    }
+
+    @Test
+    public void testSupportsSubscriptionsOfWrappedService() {
+        assertThat(cachingService.supportsSubscriptions(), is(false));
+        when(neow3jService.supportsSubscriptions()).thenReturn(true);
+        assertThat(cachingService.supportsSubscriptions(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxWeight() {
+        new CachingNeow3jService(neow3jService, 0);
+    }
+
+    private NeoGetBlock blockResponse(String nextBlockHash) {
+        NeoGetBlock response = new NeoGetBlock();
+        response.setResult(new NeoBlock("0x01", 100, 0, "0x00", "0x00", 0, 1, "next", null, null,
+                null, 1, nextBlockHash));
+        return response;
+    }
+}
@@ -0,0 +1,80 @@
+package io.neow3j.protocol;
+
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public class MultiplexedServiceTest {
+
+    private ExecutorService reader;
+    private TestService service;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() {
+        reader = Executors.newSingleThreadExecutor(r -> new Thread(r, "reader"));
+        service = new TestService();
+        neow3j = Neow3j.build(service);
+    }
+
+    @After
+    public void tearDown() {
+        neow3j.shutdown();
+        reader.shutdownNow();
+    }
+
+    @Test
+    public void testBlockingRequestFromDependentStage() throws Exception {
+        BigInteger blockIndex = neow3j.getBlockCount().sendAsync()
+                .thenApply(response -> {
+                    assertThat(Thread.currentThread().getName(), is(not("reader")));
+                    try {
+                        // Only returns if the reader thread is free to read the response.
+                        return neow3j.getBlockCount().send().getBlockIndex();
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(blockIndex, is(BigInteger.valueOf(1000)));
+    }
+
+    // Answers every request on a single reader thread, like a transport with one connection.
+    private class TestService extends MultiplexedService {
+
+        private final Pattern idPattern = Pattern.compile("\"id\":(\\d+)");
+
+        private TestService() {
+            super(false);
+        }
+
+        @Override
+        protected void write(String payload) {
+            Matcher matcher = idPattern.matcher(payload);
+            matcher.find();
+            long id = Long.parseLong(matcher.group(1));
+            reader.execute(() -> completeResponse(id, new ByteArrayInputStream(
+                    ("{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"result\":1000}")
+                            .getBytes(StandardCharsets.UTF_8))));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -6,6 +6,7 @@ import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
 import okio.Buffer;
 import org.junit.Before;
 
@@ -59,6 +60,7 @@ public abstract class RequestTester {
             this.requestBody = request.body();
 
             okhttp3.Response response = new okhttp3.Response.Builder()
+                    .body(ResponseBody.create(HttpService.JSON_MEDIA_TYPE, "{}"))
                     .request(chain.request())
                     .protocol(Protocol.HTTP_2)
                     .code(200)
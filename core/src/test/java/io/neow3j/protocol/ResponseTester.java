@@ -2,6 +2,7 @@ package io.neow3j.protocol;
 
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.deserializer.ResponseStreamReader;
 import io.neow3j.protocol.http.HttpService;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
@@ -47,6 +48,17 @@ public abstract class ResponseTester {
         return response;
     }
 
+    protected <T extends Response> T deserialiseStreamingResponse(
+            ResponseStreamReader<T> responseReader) {
+        T response = null;
+        try {
+            response = neow3jService.sendStreaming(new Request(), responseReader);
+        } catch (IOException e) {
+            fail(e.getMessage());
+        }
+        return response;
+    }
+
     private class ResponseInterceptor implements Interceptor {
 
         private String jsonResponse;
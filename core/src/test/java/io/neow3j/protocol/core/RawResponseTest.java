@@ -37,6 +37,17 @@ public class RawResponseTest extends ResponseTester {
         assertThat(web3ClientVersion.getRawResponse(), nullValue());
     }
 
+    @Test
+    public void testResponseSize() {
+        configureWeb3Service(false);
+        NeoGetVersion web3ClientVersion = deserialiseWeb3ClientVersionResponse();
+        assertThat(web3ClientVersion.getResponseSize(), is((long) RAW_RESPONSE.length()));
+
+        configureWeb3Service(true);
+        web3ClientVersion = deserialiseWeb3ClientVersionResponse();
+        assertThat(web3ClientVersion.getResponseSize(), is((long) RAW_RESPONSE.length()));
+    }
+
     private NeoGetVersion deserialiseWeb3ClientVersionResponse() {
         buildResponse(RAW_RESPONSE);
 
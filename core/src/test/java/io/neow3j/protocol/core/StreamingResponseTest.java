@@ -0,0 +1,168 @@
+package io.neow3j.protocol.core;
+
+import io.neow3j.protocol.ResponseTester;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetRawMemPool;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.deserializer.BlockStreamReader;
+import io.neow3j.protocol.deserializer.RawMemPoolStreamReader;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class StreamingResponseTest extends ResponseTester {
+
+    private static final String BLOCK_RESPONSE = "{\n" +
+            "    \"jsonrpc\": \"2.0\",\n" +
+            "    \"id\": 1,\n" +
+            "    \"result\": {\n" +
+            "        \"hash\": \"0x1de7e5eaab0f74ac38f5191c038e009d3c93ef5c392d1d66fa95ab164ba308b8\",\n" +
+            "        \"size\": 1217,\n" +
+            "        \"version\": 0,\n" +
+            "        \"previousblockhash\": \"0x045cabde4ecbd50f5e4e1b141eaf0842c1f5f56517324c8dcab8ccac924e3a39\",\n" +
+            "        \"merkleroot\": \"0x6afa63201b88b55ad2213e5a69a1ad5f0db650bc178fc2bedd2fb301c1278bf7\",\n" +
+            "        \"time\": 1539968858,\n" +
+            "        \"index\": 1914006,\n" +
+            "        \"nextconsensus\": \"AWZo4qAxhT8fwKL93QATSjCYCgHmCY1XLB\",\n" +
+            "        \"witnesses\": [\n" +
+            "            {\n" +
+            "                \"invocation\": \"DEBJVWapboNkCDlH9uu+tStOgGnwODlolRifxTvQiBkhM0vplSPo4vMj9Jt3jvzztMlwmO75Ss5cptL8wUMxASjZ\",\n" +
+            "                \"verification\": \"EQwhA/HsPB4oPogN5unEifDyfBkAfFM4WqpMDJF8MgB57a3yEQtBMHOzuw==\"\n" +
+            "            }\n" +
+            "        ],\n" +
+            "        \"consensus_data\": {\n" +
+            "            \"primary\": 0,\n" +
+            "            \"nonce\": \"45fba5f11cb04667\"\n" +
+            "        },\n" +
+            "        \"tx\": [\n" +
+            "            {\n" +
+            "                \"hash\": \"0x46eca609a9a8c8340ee56b174b04bc9c9f37c89771c3a8998dc043f5a74ad510\",\n" +
+            "                \"size\": 267,\n" +
+            "                \"version\": 0,\n" +
+            "                \"nonce\": 565086327,\n" +
+            "                \"sender\": \"AHE5cLhX5NjGB5R2PcdUvGudUoGUBDeHX4\",\n" +
+            "                \"sys_fee\": \"0\",\n" +
+            "                \"net_fee\": \"0\",\n" +
+            "                \"valid_until_block\": 2107425,\n" +
+            "                \"attributes\": [],\n" +
+            "                \"script\": \"AGQMFObBATZUrxE9ipaL3KUsmUioK5U9DBQP7O1Ep0MA2doEn6k2cKQxFxiP9hPADAh0cmFuc2ZlcgwUiXcg2M129PAKv6N8Dt2InCCP3ptBYn1bUjg\",\n" +
+            "                \"witnesses\": []\n" +
+            "            },\n" +
+            "            {\n" +
+            "                \"hash\": \"0x8b8d6bfbd3b4f4b3db4b35fdd4a7c5ba1cfd6e22ad0e8c1f1e4caa28e0e4b8f0\",\n" +
+            "                \"size\": 250,\n" +
+            "                \"version\": 0,\n" +
+            "                \"nonce\": 1,\n" +
+            "                \"sender\": \"AHE5cLhX5NjGB5R2PcdUvGudUoGUBDeHX4\",\n" +
+            "                \"sys_fee\": \"1\",\n" +
+            "                \"net_fee\": \"2\",\n" +
+            "                \"valid_until_block\": 2107426,\n" +
+            "                \"attributes\": [],\n" +
+            "                \"script\": \"AGQ=\",\n" +
+            "                \"witnesses\": []\n" +
+            "            }\n" +
+            "        ],\n" +
+            "        \"confirmations\": 7878,\n" +
+            "        \"nextblockhash\": \"0x4a97ca89199627f877b6bffe865b8327be84b368d62572ef20953829c3501643\"\n" +
+            "    }\n" +
+            "}";
+
+    @Test
+    public void testStreamBlockTransactions() {
+        buildResponse(BLOCK_RESPONSE);
+
+        List<Transaction> transactions = new ArrayList<>();
+        NeoGetBlock getBlock = deserialiseStreamingResponse(
+                new BlockStreamReader(transactions::add));
+
+        assertThat(getBlock.getId(), is(1L));
+        assertThat(getBlock.getJsonrpc(), is("2.0"));
+        assertThat(getBlock.getBlock(), is(notNullValue()));
+        assertThat(getBlock.getBlock().getHash(),
+                is("0x1de7e5eaab0f74ac38f5191c038e009d3c93ef5c392d1d66fa95ab164ba308b8"));
+        assertThat(getBlock.getBlock().getIndex(), is(1914006L));
+        assertThat(getBlock.getBlock().getWitnesses(), hasSize(1));
+        assertThat(getBlock.getBlock().getConsensusData().getNonce(), is("45fba5f11cb04667"));
+        assertThat(getBlock.getBlock().getConfirmations(), is(7878));
+        assertThat(getBlock.getBlock().getNextBlockHash(),
+                is("0x4a97ca89199627f877b6bffe865b8327be84b368d62572ef20953829c3501643"));
+        assertThat(getBlock.getBlock().getTransactions(), is(empty()));
+
+        assertThat(transactions, hasSize(2));
+        assertThat(transactions.get(0).getHash(),
+                is("0x46eca609a9a8c8340ee56b174b04bc9c9f37c89771c3a8998dc043f5a74ad510"));
+        assertThat(transactions.get(1).getHash(),
+                is("0x8b8d6bfbd3b4f4b3db4b35fdd4a7c5ba1cfd6e22ad0e8c1f1e4caa28e0e4b8f0"));
+        assertThat(transactions.get(1).getValidUntilBlock(), is(2107426L));
+    }
+
+    @Test
+    public void testStreamBlockTransactions_IncludeRawResponses() {
+        configureWeb3Service(true);
+        buildResponse(BLOCK_RESPONSE);
+
+        List<Transaction> transactions = new ArrayList<>();
+        NeoGetBlock getBlock = deserialiseStreamingResponse(
+                new BlockStreamReader(transactions::add));
+
+        assertThat(getBlock.getBlock().getIndex(), is(1914006L));
+        assertThat(getBlock.getRawResponse(), is(nullValue()));
+        assertThat(transactions, hasSize(2));
+    }
+
+    @Test
+    public void testStreamBlock_Error() {
+        buildResponse(
+                "{\n" +
+                        "    \"jsonrpc\": \"2.0\",\n" +
+                        "    \"id\": 1,\n" +
+                        "    \"error\": {\n" +
+                        "        \"code\": -100,\n" +
+                        "        \"message\": \"Unknown block\"\n" +
+                        "    }\n" +
+                        "}"
+        );
+
+        List<Transaction> transactions = new ArrayList<>();
+        NeoGetBlock getBlock = deserialiseStreamingResponse(
+                new BlockStreamReader(transactions::add));
+
+        assertThat(getBlock.hasError(), is(true));
+        assertThat(getBlock.getError().getCode(), is(-100));
+        assertThat(getBlock.getBlock(), is(nullValue()));
+        assertThat(transactions, is(empty()));
+    }
+
+    @Test
+    public void testStreamRawMemPool() {
+        buildResponse(
+                "{\n" +
+                        "    \"jsonrpc\": \"2.0\",\n" +
+                        "    \"id\": 67,\n" +
+                        "    \"result\": [\n" +
+                        "        \"0x9786cce0dddb524c40ddbdd5e31a41ed1f6b5c8a683c122f627ca4a007a7cf4e\",\n" +
+                        "        \"0xb488ad25eb474f89d5ca3f985cc047ca96bc7373a6d3da8c0f192722896c1cd7\"\n" +
+                        "    ]\n" +
+                        "}"
+        );
+
+        List<String> hashes = new ArrayList<>();
+        NeoGetRawMemPool getRawMemPool = deserialiseStreamingResponse(
+                new RawMemPoolStreamReader(hashes::add));
+
+        assertThat(getRawMemPool.getId(), is(67L));
+        assertThat(getRawMemPool.getAddresses(), is(empty()));
+        assertThat(hashes, contains(
+                "0x9786cce0dddb524c40ddbdd5e31a41ed1f6b5c8a683c122f627ca4a007a7cf4e",
+                "0xb488ad25eb474f89d5ca3f985cc047ca96bc7373a6d3da8c0f192722896c1cd7"));
+    }
+}
@@ -0,0 +1,147 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.model.NeoConfig;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BlockPollingTest {
+
+    private static final long BLOCK_TIME = 15000;
+
+    private long defaultMilliSecondsPerBlock;
+    private ScheduledExecutorService executorService;
+
+    @Before
+    public void setUp() {
+        defaultMilliSecondsPerBlock = NeoConfig.milliSecondsPerBlock();
+        NeoConfig.setMilliSecondsPerBlock(BLOCK_TIME);
+        executorService = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        NeoConfig.setMilliSecondsPerBlock(defaultMilliSecondsPerBlock);
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testWaitsForExpectedBlockAndBacksOffAfterwards() {
+        AtomicLong now = new AtomicLong(0);
+        BlockPolling polling = new BlockPolling(null, (from, to) -> {}, now::get);
+        polling.run(mock(ScheduledExecutorService.class), 4000);
+
+        // No poll until the next block is expected.
+        assertThat(polling.nextPollDelay(true), is(BLOCK_TIME));
+        now.set(10000);
+        assertThat(polling.nextPollDelay(false), is(5000L));
+
+        // Tight polling after the expected block time, backing off up to the polling interval.
+        now.set(BLOCK_TIME);
+        assertThat(polling.nextPollDelay(false), is(500L));
+        assertThat(polling.nextPollDelay(false), is(1000L));
+        assertThat(polling.nextPollDelay(false), is(2000L));
+        assertThat(polling.nextPollDelay(false), is(4000L));
+        assertThat(polling.nextPollDelay(false), is(4000L));
+
+        // A new block resets the backoff.
+        now.set(20000);
+        assertThat(polling.nextPollDelay(true), is(BLOCK_TIME));
+    }
+
+    @Test
+    public void testTightIntervalIsBoundedByPollingInterval() {
+        AtomicLong now = new AtomicLong(0);
+        BlockPolling polling = new BlockPolling(null, (from, to) -> {}, now::get);
+        polling.run(mock(ScheduledExecutorService.class), 100);
+
+        assertThat(polling.nextPollDelay(false), is(100L));
+        assertThat(polling.nextPollDelay(false), is(100L));
+    }
+
+    @Test
+    public void testMissedBlocksAreEmittedAsOneRange() throws Exception {
+        NeoConfig.setMilliSecondsPerBlock(10);
+        Neow3jService neow3jService = mock(Neow3jService.class);
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(blockCount(5), blockCount(9), blockCount(9), blockCount(10));
+
+        List<long[]> ranges = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        BlockPolling polling = new BlockPolling(Neow3j.build(neow3jService), (from, to) -> {
+            ranges.add(new long[]{from, to});
+            latch.countDown();
+        });
+        polling.run(executorService, 10);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        stop(polling);
+        assertThat(ranges.get(0), is(new long[]{5, 8}));
+        assertThat(ranges.get(1), is(new long[]{9, 9}));
+        assertThat(polling.getCurrentBlockIndex(), is(9L));
+        assertThat(polling.getCurrentBlock(), is(BigInteger.valueOf(9)));
+    }
+
+    @Test
+    public void testBlocksAreReportedAgainIfCallbackFails() throws Exception {
+        NeoConfig.setMilliSecondsPerBlock(10);
+        Neow3jService neow3jService = mock(Neow3jService.class);
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(blockCount(5), blockCount(8));
+
+        List<Long> blocks = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean failed = new AtomicBoolean();
+        BlockPolling polling = new BlockPolling(Neow3j.build(neow3jService), block -> {
+            blocks.add(block.longValue());
+            if (block.longValue() == 6 && failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("Failed to process block 6.");
+            }
+            if (block.longValue() == 7) {
+                latch.countDown();
+            }
+        });
+        polling.run(executorService, 10);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        stop(polling);
+        assertThat(blocks, is(asList(5L, 6L, 6L, 7L)));
+        assertThat(polling.getCurrentBlockIndex(), is(7L));
+    }
+
+    // Waits for a running poll to finish.
+    private void stop(BlockPolling polling) throws InterruptedException {
+        polling.cancel();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private NeoBlockCount blockCount(long count) {
+        NeoBlockCount blockCount = new NeoBlockCount();
+        blockCount.setResult(BigInteger.valueOf(count));
+        return blockCount;
+    }
+}
@@ -1,13 +1,19 @@
 package io.neow3j.protocol.http;
 
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.BlockParameterIndex;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
 import io.neow3j.protocol.exceptions.ClientConnectionException;
 import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Assert;
 import org.junit.Test;
@@ -16,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,6 +36,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertTrue;
 
 public class HttpServiceTest {
@@ -151,6 +159,184 @@ public class HttpServiceTest {
         Assert.assertThat(executor.isCalled(), is(true));
     }
 
+    @Test
+    public void testAsyncEnqueuesCallWithoutExternalExecutor() throws Exception {
+        String content = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}";
+        Call call = Mockito.mock(Call.class);
+        Mockito.doAnswer(invocation -> {
+            Callback callback = (Callback) invocation.getArguments()[0];
+            Response response = new Response.Builder()
+                    .code(200)
+                    .message("")
+                    .body(ResponseBody.create(HttpService.JSON_MEDIA_TYPE, content))
+                    .request(new okhttp3.Request.Builder()
+                            .url(HttpService.DEFAULT_URL)
+                            .build())
+                    .protocol(Protocol.HTTP_1_1)
+                    .build();
+            callback.onResponse(call, response);
+            return null;
+        }).when(call).enqueue(Mockito.any(Callback.class));
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Mockito.when(httpClient.newCall(Mockito.any())).thenReturn(call);
+        HttpService mockedHttpService = new HttpService(httpClient);
+
+        Request<String, NeoBlockCount> request = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                mockedHttpService,
+                NeoBlockCount.class);
+        NeoBlockCount neoBlockCount = request.sendAsync().get(5, TimeUnit.SECONDS);
+
+        Assert.assertThat(neoBlockCount.getBlockIndex(), is(BigInteger.valueOf(1234)));
+        Mockito.verify(call, Mockito.never()).execute();
+    }
+
+    @Test
+    public void testAsyncEnqueuedCallFailure() throws Exception {
+        Call call = Mockito.mock(Call.class);
+        Mockito.doAnswer(invocation -> {
+            Callback callback = (Callback) invocation.getArguments()[0];
+            callback.onFailure(call, new IOException("Connection refused"));
+            return null;
+        }).when(call).enqueue(Mockito.any(Callback.class));
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Mockito.when(httpClient.newCall(Mockito.any())).thenReturn(call);
+        HttpService mockedHttpService = new HttpService(httpClient);
+
+        Request<String, NeoBlockCount> request = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                mockedHttpService,
+                NeoBlockCount.class);
+        try {
+            request.sendAsync().get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            Assert.assertThat(e.getCause().getMessage(), is("Connection refused"));
+            return;
+        }
+
+        Assert.fail("No exception");
+    }
+
+    @Test
+    public void testBuilder() {
+        HttpService service = new HttpService.Builder()
+                .url("http://localhost:40332")
+                .maxRequests(128)
+                .maxRequestsPerHost(100)
+                .maxIdleConnections(32)
+                .keepAlive(1, TimeUnit.MINUTES)
+                .http2PriorKnowledge(true)
+                .connectTimeout(1, TimeUnit.SECONDS)
+                .readTimeout(2, TimeUnit.SECONDS)
+                .writeTimeout(3, TimeUnit.SECONDS)
+                .build();
+
+        OkHttpClient client = service.getHttpClient();
+        Assert.assertThat(client.dispatcher().getMaxRequests(), is(128));
+        Assert.assertThat(client.dispatcher().getMaxRequestsPerHost(), is(100));
+        Assert.assertThat(client.protocols(),
+                is(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE)));
+        Assert.assertThat(client.connectTimeoutMillis(), is(1000));
+        Assert.assertThat(client.readTimeoutMillis(), is(2000));
+        Assert.assertThat(client.writeTimeoutMillis(), is(3000));
+    }
+
+    @Test
+    public void testBuilderDefaults() {
+        OkHttpClient client = new HttpService.Builder().build().getHttpClient();
+
+        Assert.assertThat(client.dispatcher().getMaxRequests(),
+                is(HttpService.Builder.DEFAULT_MAX_REQUESTS));
+        Assert.assertThat(client.dispatcher().getMaxRequestsPerHost(),
+                is(HttpService.Builder.DEFAULT_MAX_REQUESTS));
+        Assert.assertThat(client.protocols().contains(Protocol.H2_PRIOR_KNOWLEDGE), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderWithInvalidMaxRequestsPerHost() {
+        new HttpService.Builder().maxRequestsPerHost(0);
+    }
+
+    @Test
+    public void testSendBatch() throws IOException {
+        Request<?, NeoBlockCount> blockCountRequest = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                null,
+                NeoBlockCount.class);
+        blockCountRequest.setId(1);
+        Request<?, NeoGetBlock> blockRequest = new Request<>(
+                "getblock",
+                Collections.singletonList(5),
+                null,
+                NeoGetBlock.class);
+        blockRequest.setId(2);
+
+        // The node is free to answer the batched requests in any order.
+        String content = "["
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"error\":{\"code\":-100,\"message\":\"Unknown block\"}},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}"
+                + "]";
+        String[] requestPayload = new String[1];
+        HttpService mockedHttpService = new HttpService(mockHttpClient(content, requestPayload));
+
+        BatchResponse batchResponse = mockedHttpService.sendBatch(
+                Neow3j.build(mockedHttpService).newBatch()
+                        .add(blockCountRequest)
+                        .add(blockRequest));
+
+        Assert.assertThat(requestPayload[0], is("["
+                + "{\"jsonrpc\":\"2.0\",\"method\":\"getblockcount\",\"params\":[],\"id\":1},"
+                + "{\"jsonrpc\":\"2.0\",\"method\":\"getblock\",\"params\":[5],\"id\":2}"
+                + "]"));
+        Assert.assertThat(batchResponse.getResponses().size(), is(2));
+        Assert.assertThat(batchResponse.getResponse(blockCountRequest).getBlockIndex(),
+                is(BigInteger.valueOf(1234)));
+        NeoGetBlock neoGetBlock = batchResponse.getResponse(blockRequest);
+        Assert.assertThat(neoGetBlock.getBlock(), is(nullValue()));
+        Assert.assertThat(neoGetBlock.getError().getCode(), is(-100));
+        Assert.assertThat(batchResponse.getResponses().get(1), is(neoGetBlock));
+    }
+
+    @Test(expected = ClientConnectionException.class)
+    public void testSendBatchWithMissingResponse() throws IOException {
+        String content = "[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}]";
+        HttpService mockedHttpService = new HttpService(mockHttpClient(content, new String[1]));
+
+        Request<?, NeoBlockCount> request1 = new Request<>(
+                "getblockcount", Collections.emptyList(), mockedHttpService, NeoBlockCount.class);
+        request1.setId(1);
+        Request<?, NeoBlockCount> request2 = new Request<>(
+                "getblockcount", Collections.emptyList(), mockedHttpService, NeoBlockCount.class);
+        request2.setId(2);
+
+        Neow3j.build(mockedHttpService).newBatch().add(request1).add(request2).send();
+    }
+
+    private OkHttpClient mockHttpClient(String content, String[] requestPayload) {
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Mockito.when(httpClient.newCall(Mockito.any()))
+                .thenAnswer(invocation -> {
+                    okhttp3.Request httpRequest = (okhttp3.Request) invocation.getArguments()[0];
+                    Buffer buffer = new Buffer();
+                    httpRequest.body().writeTo(buffer);
+                    requestPayload[0] = buffer.readUtf8();
+                    Response response = new Response.Builder()
+                            .code(200)
+                            .message("")
+                            .body(ResponseBody.create(HttpService.JSON_MEDIA_TYPE, content))
+                            .request(httpRequest)
+                            .protocol(Protocol.HTTP_1_1)
+                            .build();
+                    Call call = Mockito.mock(Call.class);
+                    Mockito.when(call.execute()).thenReturn(response);
+                    return call;
+                });
+        return httpClient;
+    }
+
     private class TestExecutorService implements ExecutorService {
 
         private boolean isCalled = false;
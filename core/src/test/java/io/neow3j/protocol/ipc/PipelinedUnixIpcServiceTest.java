@@ -0,0 +1,155 @@
+package io.neow3j.protocol.ipc;
+
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class PipelinedUnixIpcServiceTest {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\":(\\d+)");
+
+    private Pipe requests;
+    private Pipe responses;
+    private PipelinedUnixIpcService ipcService;
+
+    @Before
+    public void setUp() throws IOException {
+        requests = Pipe.open();
+        responses = Pipe.open();
+        ipcService = new PipelinedUnixIpcService(responses.source(), requests.sink(), false);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ipcService.close();
+        requests.source().close();
+        responses.sink().close();
+    }
+
+    @Test
+    public void testPipelinedRequestsAreMatchedById() throws Exception {
+        List<CompletableFuture<NeoBlockCount>> futures = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            futures.add(blockCountRequest(i).sendAsync());
+        }
+
+        // All requests are in flight before the node answers them in reverse order.
+        List<Long> ids = readRequestIds(3);
+        Collections.reverse(ids);
+        for (Long id : ids) {
+            respond("{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"result\":" + (id * 100) + "}\n");
+        }
+
+        for (int i = 1; i <= 3; i++) {
+            NeoBlockCount response = futures.get(i - 1).get(5, TimeUnit.SECONDS);
+            assertThat(response.getId(), is((long) i));
+            assertThat(response.getBlockIndex(), is(BigInteger.valueOf(i * 100)));
+        }
+    }
+
+    @Test
+    public void testResponsesSplitAcrossReadsAndLargerThanBuffer() throws Exception {
+        CompletableFuture<NeoBlockCount> first = blockCountRequest(1).sendAsync();
+        CompletableFuture<NeoBlockCount> second = blockCountRequest(2).sendAsync();
+        readRequestIds(2);
+
+        StringBuilder padding = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            padding.append('a');
+        }
+        String responses = "{\"jsonrpc\":\"2.0\",\"padding\":\"" + padding + "\",\"id\":1,"
+                + "\"result\":7}\n{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":8}\n";
+        int half = responses.length() / 2;
+        respond(responses.substring(0, half));
+        respond(responses.substring(half));
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getBlockIndex(), is(BigInteger.valueOf(7)));
+        assertThat(second.get(5, TimeUnit.SECONDS).getBlockIndex(), is(BigInteger.valueOf(8)));
+    }
+
+    @Test
+    public void testBatchAndSingleResponsesInOneRead() throws Exception {
+        CompletableFuture<BatchResponse> batch = new BatchRequest(ipcService)
+                .add(blockCountRequest(1))
+                .add(blockCountRequest(2))
+                .sendAsync();
+        CompletableFuture<NeoBlockCount> single = blockCountRequest(3).sendAsync();
+        readRequestIds(2);
+
+        respond("{\"jsonrpc\":\"2.0\",\"id\":3,\"result\":9}\n"
+                + "[{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":8},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":7}]\n");
+
+        assertThat(single.get(5, TimeUnit.SECONDS).getBlockIndex(), is(BigInteger.valueOf(9)));
+        List<?> responses = batch.get(5, TimeUnit.SECONDS).getResponses();
+        assertThat(((NeoBlockCount) responses.get(0)).getBlockIndex(),
+                is(BigInteger.valueOf(7)));
+        assertThat(((NeoBlockCount) responses.get(1)).getBlockIndex(),
+                is(BigInteger.valueOf(8)));
+    }
+
+    @Test
+    public void testPendingRequestsFailWhenConnectionIsClosed() throws Exception {
+        CompletableFuture<NeoBlockCount> future = blockCountRequest(1).sendAsync();
+        readRequestIds(1);
+        responses.sink().close();
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+    }
+
+    private Request<?, NeoBlockCount> blockCountRequest(long id) {
+        Request<?, NeoBlockCount> request = new Request<>("getblockcount",
+                Collections.<String>emptyList(), ipcService, NeoBlockCount.class);
+        request.setId(id);
+        return request;
+    }
+
+    private List<Long> readRequestIds(int count) {
+        Scanner scanner = new Scanner(Channels.newInputStream(requests.source()),
+                StandardCharsets.UTF_8.name());
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Matcher matcher = ID_PATTERN.matcher(scanner.nextLine());
+            matcher.find();
+            ids.add(Long.valueOf(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private void respond(String payload) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(payload.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            responses.sink().write(buffer);
+        }
+    }
+}
@@ -24,9 +24,13 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -125,6 +129,94 @@ public class JsonRpc2_0RxTest {
         assertThat(transactionLatch.getCount(), is(0L));
     }
 
+    @Test
+    public void testReplayBlocksObservableWithMaxConcurrency() throws Exception {
+        int blockCount = 10;
+        int maxConcurrency = 3;
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ScheduledExecutorService responder = Executors.newScheduledThreadPool(maxConcurrency);
+
+        // Lower blocks take longer to be returned, so that they arrive out of order.
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class)))
+            .thenAnswer(invocation -> {
+                Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+                int index = ((BigInteger) request.getParams().get(0)).intValue();
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                CompletableFuture<NeoGetBlock> future = new CompletableFuture<>();
+                responder.schedule(() -> {
+                    inFlight.decrementAndGet();
+                    future.complete(createBlock(index));
+                }, (blockCount - index) * 10, TimeUnit.MILLISECONDS);
+                return future;
+            });
+
+        Observable<NeoGetBlock> observable = neow3j.replayBlocksObservable(
+            new BlockParameterIndex(BigInteger.ZERO),
+            new BlockParameterIndex(BigInteger.valueOf(blockCount - 1)),
+            true,
+            true,
+            maxConcurrency);
+
+        List<NeoGetBlock> results = observable.toList().blockingGet();
+        responder.shutdown();
+
+        assertThat(results.size(), is(blockCount));
+        for (int i = 0; i < blockCount; i++) {
+            assertThat(results.get(i).getBlock().getIndex(), is((long) i));
+        }
+        assertTrue(maxInFlight.get() <= maxConcurrency);
+        assertTrue(maxInFlight.get() > 1);
+    }
+
+    @Test
+    public void testReplayBlocksObservableWithMaxConcurrencyCancelsRequestsOnDispose()
+            throws Exception {
+        int maxConcurrency = 3;
+        List<CompletableFuture<NeoGetBlock>> futures = new CopyOnWriteArrayList<>();
+        CountDownLatch requestLatch = new CountDownLatch(maxConcurrency);
+        CountDownLatch cancelLatch = new CountDownLatch(maxConcurrency);
+
+        // The responses never arrive, the requests stay in flight until they are cancelled.
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class)))
+            .thenAnswer(invocation -> {
+                CompletableFuture<NeoGetBlock> future = new CompletableFuture<>();
+                future.whenComplete((block, throwable) -> cancelLatch.countDown());
+                futures.add(future);
+                requestLatch.countDown();
+                return future;
+            });
+
+        Disposable subscription = neow3j.replayBlocksObservable(
+            new BlockParameterIndex(BigInteger.ZERO),
+            new BlockParameterIndex(BigInteger.TEN),
+            true,
+            true,
+            maxConcurrency)
+            .subscribe(block -> fail("No block should be emitted."));
+
+        assertTrue(requestLatch.await(5, TimeUnit.SECONDS));
+        subscription.dispose();
+
+        // The request can be disposed before it registered its cancellation, it is then cancelled
+        // right after on the thread that sent it.
+        assertTrue(cancelLatch.await(5, TimeUnit.SECONDS));
+        assertThat(futures.size(), is(maxConcurrency));
+        for (CompletableFuture<NeoGetBlock> future : futures) {
+            assertTrue(future.isCancelled());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReplayBlocksObservableWithInvalidMaxConcurrency() {
+        neow3j.replayBlocksObservable(
+            new BlockParameterIndex(BigInteger.ZERO),
+            new BlockParameterIndex(BigInteger.TEN),
+            true,
+            true,
+            0);
+    }
+
     @Test
     @Ignore("Ignored due to malfunctioning according to issue #129.")
     public void testCatchUpToLatestAndSubscribeToNewBlockObservable() throws Exception {
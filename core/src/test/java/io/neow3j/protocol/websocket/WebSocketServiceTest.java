@@ -0,0 +1,195 @@
+package io.neow3j.protocol.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.notifications.BlockNotification;
+import io.reactivex.disposables.Disposable;
+import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class WebSocketServiceTest {
+
+    private static final String BLOCK_ADDED = "{\"jsonrpc\":\"2.0\",\"method\":\"block_added\","
+            + "\"params\":[{\"hash\":\"0x01\",\"size\":100,\"version\":0,\"index\":%d,"
+            + "\"tx\":[{\"hash\":\"0x02\",\"size\":50,\"version\":0}]}]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private TestServer server;
+    private WebSocketService webSocketService;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new TestServer();
+        server.start();
+        assertTrue(server.started.await(5, TimeUnit.SECONDS));
+        webSocketService = new WebSocketService("ws://localhost:" + server.getPort(), false);
+        webSocketService.connect();
+        neow3j = Neow3j.build(webSocketService, 1000,
+                Executors.newSingleThreadScheduledExecutor());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        neow3j.shutdown();
+        server.stop();
+    }
+
+    @Test
+    public void testSendRequest() throws Exception {
+        assertThat(neow3j.getBlockCount().send().getBlockIndex(), is(BigInteger.valueOf(1000)));
+    }
+
+    @Test
+    public void testSendBatch() throws Exception {
+        assertThat(neow3j.newBatch()
+                .add(neow3j.getBlockCount())
+                .add(neow3j.getBlockCount())
+                .send().getResponses().size(), is(2));
+    }
+
+    @Test
+    public void testBlockNotifications() throws Exception {
+        BlockingQueue<BlockNotification> notifications = new LinkedBlockingQueue<>();
+        Disposable disposable = neow3j.blockNotifications().subscribe(notifications::add);
+
+        assertThat(server.nextMethod(), is("subscribe"));
+        server.broadcast(String.format(BLOCK_ADDED, 5));
+        BlockNotification notification = notifications.poll(5, TimeUnit.SECONDS);
+        assertThat(notification.getMethod(), is("block_added"));
+        assertThat(notification.getParams().getResult().getIndex(), is(5L));
+
+        disposable.dispose();
+        assertThat(server.nextMethod(), is("unsubscribe"));
+        assertThat(server.unsubscribed, hasItem("sub-1"));
+    }
+
+    @Test
+    public void testBlockingRequestFromSubscriber() throws Exception {
+        BlockingQueue<BigInteger> blockCounts = new LinkedBlockingQueue<>();
+        Disposable disposable = neow3j.blockNotifications().subscribe(notification ->
+                blockCounts.add(neow3j.getBlockCount().send().getBlockIndex()));
+
+        assertThat(server.nextMethod(), is("subscribe"));
+        server.broadcast(String.format(BLOCK_ADDED, 5));
+        // Only answered if the notification is not emitted on the WebSocket read thread.
+        assertThat(blockCounts.poll(5, TimeUnit.SECONDS), is(BigInteger.valueOf(1000)));
+        disposable.dispose();
+    }
+
+    @Test
+    public void testBlockObservableIsPushDriven() throws Exception {
+        BlockingQueue<NeoGetBlock> blocks = new LinkedBlockingQueue<>();
+        Disposable disposable = neow3j.blockObservable(false).subscribe(blocks::add);
+
+        assertThat(server.nextMethod(), is("subscribe"));
+        server.broadcast(String.format(BLOCK_ADDED, 6));
+        server.broadcast(String.format(BLOCK_ADDED, 7));
+
+        NeoGetBlock first = blocks.poll(5, TimeUnit.SECONDS);
+        assertThat(first.getBlock().getIndex(), is(6L));
+        assertThat(first.getBlock().getTransactions(), is(nullValue()));
+        assertThat(blocks.poll(5, TimeUnit.SECONDS).getBlock().getIndex(), is(7L));
+        disposable.dispose();
+        assertThat(server.nextMethod(), is("unsubscribe"));
+        assertThat(server.receivedMethods, not(hasItem("getblockcount")));
+    }
+
+    private class TestServer extends WebSocketServer {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final BlockingQueue<String> methods = new LinkedBlockingQueue<>();
+        private final List<String> receivedMethods = new CopyOnWriteArrayList<>();
+        private final List<String> unsubscribed = new CopyOnWriteArrayList<>();
+
+        private TestServer() {
+            super(new InetSocketAddress("localhost", 0));
+        }
+
+        private String nextMethod() throws InterruptedException {
+            return methods.poll(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void onMessage(WebSocket conn, String message) {
+            try {
+                JsonNode request = objectMapper.readTree(message);
+                if (request.isArray()) {
+                    StringBuilder responses = new StringBuilder("[");
+                    for (JsonNode r : request) {
+                        responses.append(responses.length() > 1 ? "," : "")
+                                .append(respond(r));
+                    }
+                    conn.send(responses.append("]").toString());
+                } else {
+                    conn.send(respond(request));
+                    // Only signal the request once it is answered, notifications sent after the
+                    // signal then arrive after the response to a subscription.
+                    methods.add(request.get("method").asText());
+                }
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private String respond(JsonNode request) {
+            String method = request.get("method").asText();
+            receivedMethods.add(method);
+            String result;
+            switch (method) {
+                case "subscribe":
+                    result = "\"sub-1\"";
+                    break;
+                case "unsubscribe":
+                    unsubscribed.add(request.get("params").get(0).asText());
+                    result = "true";
+                    break;
+                default:
+                    result = "1000";
+            }
+            return "{\"jsonrpc\":\"2.0\",\"id\":" + request.get("id").asLong()
+                    + ",\"result\":" + result + "}";
+        }
+
+        @Override
+        public void onOpen(WebSocket conn, ClientHandshake handshake) {
+        }
+
+        @Override
+        public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+        }
+
+        @Override
+        public void onError(WebSocket conn, Exception ex) {
+        }
+
+        @Override
+        public void onStart() {
+            started.countDown();
+        }
+    }
+}
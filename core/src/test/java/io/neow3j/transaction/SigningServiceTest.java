@@ -0,0 +1,73 @@
+package io.neow3j.transaction;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.ECKeyPair;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SigningServiceTest {
+
+    private ExecutorService executor;
+    private SigningService signingService;
+    private ECKeyPair keyPair;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(3);
+        signingService = new SigningService(executor, 3);
+        keyPair = ECKeyPair.createEcKeyPair();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void signCreatesSameWitnessAsWitnessFactory() throws Exception {
+        byte[] message = new byte[]{0x01, 0x02, 0x03};
+        Witness expected = Witness.createWitness(message, keyPair);
+
+        assertThat(signingService.sign(message, keyPair), is(expected));
+        assertThat(signingService.signAsync(message, keyPair).get(), is(expected));
+        assertThat(signingService.sign(message, keyPair).getScriptHash(),
+                is(expected.getScriptHash()));
+    }
+
+    @Test
+    public void signBatchInOrder() throws Exception {
+        List<byte[]> messages = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            messages.add(new byte[]{(byte) i});
+        }
+        List<Witness> witnesses = signingService.signAllAsync(messages, keyPair).get();
+
+        assertThat(witnesses.size(), is(25));
+        for (int i = 0; i < messages.size(); i++) {
+            assertThat(witnesses.get(i), is(Witness.createWitness(messages.get(i), keyPair)));
+        }
+    }
+
+    @Test
+    public void signTransactions() throws Exception {
+        Transaction tx = new Transaction.Builder()
+                .sender(ScriptHash.fromPublicKey(
+                        keyPair.getPublicKey().getEncoded(true)))
+                .validUntilBlock(100L)
+                .script(new byte[]{0x01})
+                .build();
+
+        signingService.signTransactionsAsync(Collections.singletonList(tx), keyPair).get();
+        assertThat(tx.getWitnesses(),
+                is(Collections.singletonList(Witness.createWitness(tx.getHashData(), keyPair))));
+    }
+}
@@ -0,0 +1,61 @@
+package io.neow3j.transaction;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+public class TransactionAllocatorTest {
+
+    @Test(expected = IllegalStateException.class)
+    public void failWithoutKnownBlockCount() {
+        new TransactionAllocator(mock(Neow3j.class)).nextValidUntilBlock();
+    }
+
+    @Test
+    public void refreshBlockCountAndIgnoreLowerOnes() throws Exception {
+        Neow3jService neow3jService = mock(Neow3jService.class);
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(blockCount(1000));
+        TransactionAllocator allocator = new TransactionAllocator(Neow3j.build(neow3jService));
+
+        allocator.refresh();
+        assertThat(allocator.getBlockCount(), is(1000L));
+        assertThat(allocator.nextValidUntilBlock(),
+                is(1000L + NeoConstants.MAX_VALID_UNTIL_BLOCK_INCREMENT - 1));
+        allocator.setBlockCount(999);
+        assertThat(allocator.getBlockCount(), is(1000L));
+        allocator.setBlockCount(1001);
+        assertThat(allocator.getBlockCount(), is(1001L));
+    }
+
+    @Test
+    public void allocateDistinctNonces() {
+        TransactionAllocator allocator = new TransactionAllocator(mock(Neow3j.class));
+        Set<Long> nonces = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            long nonce = allocator.nextNonce();
+            assertThat(nonce >= 0 && nonce < (1L << 32), is(true));
+            nonces.add(nonce);
+        }
+        assertThat(nonces.size(), is(1000));
+    }
+
+    private NeoBlockCount blockCount(long count) {
+        NeoBlockCount blockCount = new NeoBlockCount();
+        blockCount.setResult(BigInteger.valueOf(count));
+        return blockCount;
+    }
+}
@@ -0,0 +1,185 @@
+package io.neow3j.transaction;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.io.NeoSerializableInterface;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
+import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction.RawTransaction;
+import io.neow3j.utils.Numeric;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TransactionSubmitterTest {
+
+    private ExecutorService executor;
+    private Neow3jService neow3jService;
+    private Neow3j neow;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        neow3jService = mock(Neow3jService.class);
+        neow = Neow3j.build(neow3jService);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void submitInBatchesWithBoundedCallsInFlight() throws Exception {
+        BlockingQueue<PendingBatch> pendingBatches = new LinkedBlockingQueue<>();
+        when(neow3jService.sendBatchAsync(any(BatchRequest.class))).thenAnswer(invocation -> {
+            PendingBatch batch = new PendingBatch((BatchRequest) invocation.getArguments()[0]);
+            pendingBatches.add(batch);
+            return batch.future;
+        });
+        List<Transaction> transactions = transactions(10);
+        List<String> txIds = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<Void> done = new TransactionSubmitter.Builder(neow)
+                .executor(executor)
+                .maxInFlight(2)
+                .batchSize(4)
+                .build()
+                .submit(transactions.stream(), new CollectingListener(txIds));
+
+        // Batches of 4, 4 and 2 transactions. Only two batches are sent at a time.
+        PendingBatch first = pendingBatches.poll(5, TimeUnit.SECONDS);
+        PendingBatch second = pendingBatches.poll(5, TimeUnit.SECONDS);
+        assertThat(pendingBatches.poll(100, TimeUnit.MILLISECONDS), is(nullValue()));
+        first.complete();
+        PendingBatch third = pendingBatches.poll(5, TimeUnit.SECONDS);
+        second.complete();
+        third.complete();
+
+        done.get(5, TimeUnit.SECONDS);
+        assertThat(first.batchRequest.size() + second.batchRequest.size()
+                + third.batchRequest.size(), is(10));
+        assertThat(txIds, containsInAnyOrder(transactions.stream()
+                .map(Transaction::getTxId).toArray()));
+    }
+
+    @Test
+    public void reportFailedCallsPerTransaction() throws Exception {
+        CompletableFuture<NeoSendRawTransaction> failure = new CompletableFuture<>();
+        failure.completeExceptionally(new IOException("Connection refused."));
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoSendRawTransaction.class)))
+                .thenReturn(failure);
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+
+        new TransactionSubmitter.Builder(neow)
+                .executor(executor)
+                .batchSize(1)
+                .build()
+                .submit(transactions(3).iterator(), new TransactionSubmitter.ResultListener() {
+                    @Override
+                    public void onResponse(Transaction tx, NeoSendRawTransaction response) {
+                    }
+
+                    @Override
+                    public void onFailure(Transaction tx, Throwable error) {
+                        errors.add(error);
+                    }
+                })
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(errors.size(), is(3));
+        errors.forEach(e -> assertThat(e, instanceOf(IOException.class)));
+    }
+
+    @Test
+    public void completeWithoutTransactions() throws Exception {
+        new TransactionSubmitter.Builder(neow)
+                .executor(executor)
+                .build()
+                .submit(Collections.<Transaction>emptyIterator(), new CollectingListener(
+                        new ArrayList<>()))
+                .get(5, TimeUnit.SECONDS);
+    }
+
+    private List<Transaction> transactions(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Transaction.Builder()
+                        .sender(new ScriptHash("0x969a77db482f74ce27105f760efa139223431394"))
+                        .validUntilBlock(100L + i)
+                        .script(new byte[]{0x01})
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static class PendingBatch {
+
+        private final BatchRequest batchRequest;
+        private final CompletableFuture<BatchResponse> future = new CompletableFuture<>();
+
+        private PendingBatch(BatchRequest batchRequest) {
+            this.batchRequest = batchRequest;
+        }
+
+        // Answers every request with the hash of the sent transaction.
+        private void complete() throws Exception {
+            List<Response<?>> responses = new ArrayList<>();
+            for (Request<?, ?> request : batchRequest.getRequests()) {
+                byte[] txBytes = Numeric.hexStringToByteArray(
+                        (String) request.getParams().get(0));
+                NeoSendRawTransaction response = new NeoSendRawTransaction();
+                response.setResult(new RawTransaction(
+                        NeoSerializableInterface.from(txBytes, Transaction.class).getTxId()));
+                responses.add(response);
+            }
+            assertTrue(future.complete(new BatchResponse(
+                    new ArrayList<>(batchRequest.getRequests()), responses)));
+        }
+    }
+
+    private static class CollectingListener implements TransactionSubmitter.ResultListener {
+
+        private final List<String> txIds;
+
+        private CollectingListener(List<String> txIds) {
+            this.txIds = txIds;
+        }
+
+        @Override
+        public void onResponse(Transaction transaction, NeoSendRawTransaction response) {
+            assertThat(response.getSendRawTransaction().getHash(), is(transaction.getTxId()));
+            txIds.add(response.getSendRawTransaction().getHash());
+        }
+
+        @Override
+        public void onFailure(Transaction transaction, Throwable error) {
+            throw new AssertionError(error);
+        }
+    }
+}
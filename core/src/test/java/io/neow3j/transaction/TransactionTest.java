@@ -4,6 +4,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertThat;
@@ -12,12 +13,15 @@ import static org.junit.Assert.fail;
 import io.neow3j.constants.NeoConstants;
 import io.neow3j.constants.OpCode;
 import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.Hash;
 import io.neow3j.io.NeoSerializableInterface;
 import io.neow3j.io.exceptions.DeserializationException;
 import io.neow3j.model.NeoConfig;
 import io.neow3j.transaction.exceptions.TransactionConfigurationException;
+import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Numeric;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.concurrent.ThreadLocalRandom;
 import org.junit.Before;
@@ -212,6 +216,29 @@ public class TransactionTest {
         assertArrayEquals(expected, actual);
     }
 
+    @Test
+    public void serializeIntoBuffer() throws DeserializationException {
+        Transaction tx = NeoSerializableInterface.from(Numeric.hexStringToByteArray(""
+            + "00" // version
+            + "62bdaa0e"  // nonce
+            + "941343239213fa0e765f1027ce742f48db779a96"// account script hash
+            + "c272890000000000"  // system fee
+            + "a65a130000000000"  // network fee
+            + "99232000"  // valid until block
+            + "00" // no attributes
+            + "01" + OpCode.PUSH1.toString()  // 1-byte script with PUSH1 OpCode
+            + "01" // 1 witness
+            + "01000100"), Transaction.class);
+
+        ByteBuffer buffer = ByteBuffer.allocate(2 * tx.getSize());
+        tx.serializeInto(buffer);
+        tx.serializeInto(buffer);
+        assertThat(buffer.position(), is(2 * tx.getSize()));
+        assertArrayEquals(tx.toArray(), Arrays.copyOfRange(buffer.array(), 0, tx.getSize()));
+        assertArrayEquals(tx.toArray(),
+            Arrays.copyOfRange(buffer.array(), tx.getSize(), 2 * tx.getSize()));
+    }
+
     @Test
     public void deserialize() throws DeserializationException {
         byte[] data = Numeric.hexStringToByteArray(""
@@ -306,6 +333,42 @@ public class TransactionTest {
                 is("6876017ef8e845a5c659e556bf612e6d37ddd80f64eb8797fc8697909ba6a197"));
     }
 
+    @Test
+    public void txIdIsRecomputedForOtherMagicNumber() throws DeserializationException {
+        byte[] txBytes = Numeric.hexStringToByteArray(
+                "0081bda92e941343239213fa0e765f1027ce742f48db779a96c272890000000000064b130000000000132620000101941343239213fa0e765f1027ce742f48db779a960155150c14c8172ea3b405bf8bfc57c33a8410116b843e13df0c14941343239213fa0e765f1027ce742f48db779a9613c00c087472616e736665720c14897720d8cd76f4f00abfa37c0edd889c208fde9b41627d5b523801420c4086c0799939fae59efd4fc8d0b4d0be8fecf8d0c4d1715d84193f0c173ba42b5655b454ca58c866f65608e3744643cef8fbbab2855ce806f3e0ccb18872e05398290c2102c0b60c995bc092e866f15a37c176bb59b7ebacf069ba94c0ebf561cb8f9562380b418a6b1e75");
+        Transaction tx = NeoSerializableInterface.from(txBytes, Transaction.class);
+        NeoConfig.setMagicNumber(new byte[]{0x01, 0x03, 0x00, 0x0});
+        String txId = tx.getTxId();
+        assertThat(tx.getTxId(), is(txId));
+        assertThat(txId, is("6876017ef8e845a5c659e556bf612e6d37ddd80f64eb8797fc8697909ba6a197"));
+
+        NeoConfig.setMagicNumber(new byte[]{0x4e, 0x45, 0x4F, 0x00});
+        assertThat(tx.getTxId(), is(not(txId)));
+        assertThat(tx.getTxId(), is(Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(
+                Hash.sha256(Hash.sha256(tx.getHashData()))))));
+    }
+
+    @Test
+    public void txIdIsNotAffectedByModifyingTheReturnedScriptOrAttributes()
+            throws DeserializationException {
+        NeoConfig.setMagicNumber(new byte[]{0x01, 0x03, 0x00, 0x0});
+        byte[] txBytes = Numeric.hexStringToByteArray(
+                "0081bda92e941343239213fa0e765f1027ce742f48db779a96c272890000000000064b130000000000132620000101941343239213fa0e765f1027ce742f48db779a960155150c14c8172ea3b405bf8bfc57c33a8410116b843e13df0c14941343239213fa0e765f1027ce742f48db779a9613c00c087472616e736665720c14897720d8cd76f4f00abfa37c0edd889c208fde9b41627d5b523801420c4086c0799939fae59efd4fc8d0b4d0be8fecf8d0c4d1715d84193f0c173ba42b5655b454ca58c866f65608e3744643cef8fbbab2855ce806f3e0ccb18872e05398290c2102c0b60c995bc092e866f15a37c176bb59b7ebacf069ba94c0ebf561cb8f9562380b418a6b1e75");
+        Transaction tx = NeoSerializableInterface.from(txBytes, Transaction.class);
+        String txId = tx.getTxId();
+
+        tx.getScript()[0] ^= 0x01;
+        try {
+            tx.getAttributes().clear();
+            fail();
+        } catch (UnsupportedOperationException ignored) {
+        }
+        assertThat(tx.getTxId(), is(txId));
+        assertThat(tx.getTxId(), is(Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(
+                Hash.sha256(Hash.sha256(tx.getHashData()))))));
+    }
+
     @Test
     public void toArrayWithoutWitness() throws DeserializationException {
         byte[] txBytes = Numeric.hexStringToByteArray(
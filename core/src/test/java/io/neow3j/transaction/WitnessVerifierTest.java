@@ -0,0 +1,102 @@
+package io.neow3j.transaction;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.crypto.Sign;
+import io.neow3j.crypto.Sign.SignatureData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WitnessVerifierTest {
+
+    private static final byte[] MESSAGE = new byte[]{0x01, 0x02, 0x03};
+
+    private ExecutorService executor;
+    private WitnessVerifier verifier;
+    private ECKeyPair keyPair;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(3);
+        verifier = new WitnessVerifier(executor, 3);
+        keyPair = ECKeyPair.createEcKeyPair();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void verifySingleSigWitness() {
+        Witness witness = Witness.createWitness(MESSAGE, keyPair);
+
+        assertThat(verifier.verify(MESSAGE, witness), is(true));
+        assertThat(verifier.verify(new byte[]{0x01, 0x02}, witness), is(false));
+        assertThat(verifier.verify(MESSAGE, new Witness(
+                witness.getInvocationScript().getScript(), new byte[]{0x01})), is(false));
+    }
+
+    @Test
+    public void verifyMultiSigWitnessRequiresSignaturesInKeyOrder() throws Exception {
+        List<ECKeyPair> keyPairs = Arrays.asList(keyPair, ECKeyPair.createEcKeyPair(),
+                ECKeyPair.createEcKeyPair());
+        List<ECPublicKey> publicKeys = new ArrayList<>();
+        keyPairs.forEach(k -> publicKeys.add(k.getPublicKey()));
+        VerificationScript verificationScript = new VerificationScript(publicKeys, 2);
+        // The verification script orders the keys.
+        List<SignatureData> signatures = new ArrayList<>();
+        for (ECPublicKey publicKey : verificationScript.getPublicKeys()) {
+            ECKeyPair signer = keyPairs.stream()
+                    .filter(k -> k.getPublicKey().equals(publicKey)).findFirst().get();
+            signatures.add(Sign.signMessage(MESSAGE, signer));
+        }
+
+        assertThat(verifier.verify(MESSAGE, Witness.createMultiSigWitness(
+                signatures.subList(1, 3), verificationScript)), is(true));
+        assertThat(verifier.verify(MESSAGE, Witness.createMultiSigWitness(
+                Arrays.asList(signatures.get(0), signatures.get(2)), verificationScript)),
+                is(true));
+        assertThat(verifier.verify(MESSAGE, Witness.createMultiSigWitness(
+                Arrays.asList(signatures.get(2), signatures.get(0)), verificationScript)),
+                is(false));
+        assertThat(verifier.verify(MESSAGE, new Witness(
+                InvocationScript.fromSignatures(signatures.subList(0, 1)), verificationScript)),
+                is(false));
+    }
+
+    @Test
+    public void verifyTransactionsInBatch() throws Exception {
+        ScriptHash sender = ScriptHash.fromPublicKey(keyPair.getPublicKey().getEncoded(true));
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Transaction tx = new Transaction.Builder()
+                    .sender(sender)
+                    .validUntilBlock(100L + i)
+                    .script(new byte[]{0x01})
+                    .build();
+            tx.addWitness(Witness.createWitness(tx.getHashData(), keyPair));
+            transactions.add(tx);
+        }
+        // A correct witness of an account that is neither sender nor cosigner.
+        Transaction tx = transactions.get(3);
+        tx.addWitness(Witness.createWitness(tx.getHashData(), ECKeyPair.createEcKeyPair()));
+        // A witness of another transaction.
+        transactions.get(7).getWitnesses().set(0, transactions.get(6).getWitnesses().get(0));
+
+        assertThat(verifier.verifyAllAsync(transactions).get(), contains(true, true, true,
+                false, true, true, true, false, true, true));
+        assertThat(verifier.verifyAsync(transactions.get(0)).get(), is(true));
+    }
+}
@@ -69,6 +69,26 @@ public class NEP2 {
     public static ECKeyPair decrypt(String password, String nep2String, ScryptParams scryptParams)
             throws NEP2InvalidFormat, CipherException, NEP2InvalidPassphrase {
 
+        return decrypt(password.getBytes(UTF_8), nep2String, scryptParams);
+    }
+
+    /**
+     * Decrypts the given encrypted private key in NEP-2 format with the given UTF-8 encoded
+     * password and scrypt parameters.
+     * <p>
+     * Use this method to encode a password only once when decrypting many keys.
+     *
+     * @param password     The UTF-8 encoded passphrase used for decryption.
+     * @param nep2String   The NEP-2 ecnrypted private key.
+     * @param scryptParams The scrypt parameters used for encryption.
+     * @return an EC key pair constructed form the decrypted private key.
+     * @throws NEP2InvalidFormat     throws if the encrypted NEP2 has an invalid format.
+     * @throws CipherException       throws if failed encrypt the created wallet.
+     * @throws NEP2InvalidPassphrase throws if the passphrase is not valid.
+     */
+    public static ECKeyPair decrypt(byte[] password, String nep2String, ScryptParams scryptParams)
+            throws NEP2InvalidFormat, CipherException, NEP2InvalidPassphrase {
+
         byte[] nep2Data = Base58.base58CheckDecode(nep2String);
 
         if (nep2Data.length != NEP2_PRIVATE_KEY_LENGTH || nep2Data[0] != NEP2_PREFIX_1 || nep2Data[1] != NEP2_PREFIX_2 || nep2Data[2] != NEP2_FLAGBYTE) {
@@ -79,8 +99,7 @@ public class NEP2 {
         // copy 4 bytes related to the address hash
         System.arraycopy(nep2Data, 3, addressHash, 0, 4);
 
-        byte[] derivedKey = generateDerivedScryptKey(
-                password.getBytes(UTF_8), addressHash, scryptParams, DKLEN);
+        byte[] derivedKey = generateDerivedScryptKey(password, addressHash, scryptParams, DKLEN);
 
         byte[] derivedKeyHalf1 = getFirstNBytes(derivedKey, 32);
         byte[] derivedKeyHalf2 = getLastNBytes(derivedKey, 32);
@@ -144,10 +163,26 @@ public class NEP2 {
     public static String encrypt(String password, ECKeyPair ecKeyPair, int n, int p, int r)
             throws CipherException {
 
+        return encrypt(password.getBytes(UTF_8), ecKeyPair, new ScryptParams(n, r, p));
+    }
+
+    /**
+     * Encrypts the private key of the given EC key pair following the NEP-2 standard.
+     * <p>
+     * Use this method to encode a password only once when encrypting many keys.
+     *
+     * @param password     the UTF-8 encoded passphrase to be used to encrypt
+     * @param ecKeyPair    the {@link ECKeyPair} to be encrypted
+     * @param scryptParams the scrypt parameters used for encryption.
+     * @return the NEP-2 encrypted private key.
+     * @throws CipherException thrown when the AES/ECB/NoPadding cipher operation fails
+     */
+    public static String encrypt(byte[] password, ECKeyPair ecKeyPair, ScryptParams scryptParams)
+            throws CipherException {
+
         byte[] addressHash = getAddressHash(ecKeyPair);
 
-        byte[] derivedKey = generateDerivedScryptKey(
-                password.getBytes(UTF_8), addressHash, n, r, p, DKLEN);
+        byte[] derivedKey = generateDerivedScryptKey(password, addressHash, scryptParams, DKLEN);
 
         byte[] derivedHalf1 = getFirstNBytes(derivedKey, 32);
         byte[] derivedHalf2 = getLastNBytes(derivedKey, 32);
@@ -180,11 +215,6 @@ public class NEP2 {
         );
     }
 
-    private static byte[] generateDerivedScryptKey(
-            byte[] password, byte[] salt, int n, int r, int p, int dkLen) {
-        return SCrypt.generate(password, salt, n, r, p, dkLen);
-    }
-
     private static byte[] generateDerivedScryptKey(
             byte[] password, byte[] salt, ScryptParams scryptParams, int dkLen) {
         return SCrypt.generate(password, salt, scryptParams.getN(), scryptParams.getR(), scryptParams.getP(), dkLen);
@@ -0,0 +1,134 @@
+package io.neow3j.constants;
+
+import io.neow3j.utils.Numeric;
+
+/**
+ * Computes the execution fees of NEO VM scripts from the prices of the opcodes and interop
+ * services in {@link OpCode} and {@link InteropServiceCode}.
+ */
+public class FeeTable {
+
+    private static final long NO_PRICE = -1;
+    private static final long[] OPCODE_PRICES = new long[256];
+
+    static {
+        for (int i = 0; i < OPCODE_PRICES.length; i++) {
+            OPCODE_PRICES[i] = NO_PRICE;
+        }
+        for (OpCode c : OpCode.values()) {
+            OPCODE_PRICES[c.getValue() & 0xFF] = c.getPrice();
+        }
+    }
+
+    private FeeTable() {
+    }
+
+    /**
+     * Gets the price of the opcode with the given byte value.
+     *
+     * @param opCode The byte value of the opcode.
+     * @return the price in fractions of GAS.
+     * @throws IllegalArgumentException if no opcode with the given value exists.
+     */
+    public static long getPrice(byte opCode) {
+        long price = OPCODE_PRICES[opCode & 0xFF];
+        if (price == NO_PRICE) {
+            throw new IllegalArgumentException("No Opcode found for byte value " +
+                    Numeric.toHexString(opCode) + ".");
+        }
+        return price;
+    }
+
+    /**
+     * Calculates the fee for executing each instruction of the given script once, including the
+     * interop services it calls.
+     * <p>
+     * The script is not run, i.e. jumps and calls are not followed. The price of
+     * {@link InteropServiceCode#NEO_CRYPTO_ECDSA_SECP256R1_CHECKMULTISIG} and
+     * {@link InteropServiceCode#NEO_CRYPTO_ECDSA_SECP256K1_CHECKMULTISIG} is based on the number
+     * of keys pushed by the last integer push before the call, as in a multi-signature
+     * verification script.
+     *
+     * @param script The script.
+     * @return the execution fee in fractions of GAS.
+     * @throws IllegalArgumentException      if the script contains an unknown opcode or interop
+     *                                       service or if it ends within an instruction.
+     * @throws UnsupportedOperationException if the script calls an interop service whose price
+     *                                       depends on data only known at runtime.
+     */
+    public static long calcExecutionFee(byte[] script) {
+        long fee = 0;
+        // The last integer pushed by the script or null if the last instruction pushed something
+        // else.
+        Long lastInteger = null;
+        int pos = 0;
+        while (pos < script.length) {
+            OpCode opCode = OpCode.valueOf(script[pos]);
+            fee += OPCODE_PRICES[script[pos] & 0xFF];
+            pos++;
+            int operandSize = opCode.getOperandSize();
+            int prefixSize = opCode.getOperandSizePrefix();
+            if (prefixSize > 0) {
+                checkLength(script, pos, prefixSize, opCode);
+                operandSize = (int) readLittleEndian(script, pos, prefixSize);
+                pos += prefixSize;
+                if (operandSize < 0) {
+                    throw new IllegalArgumentException("Invalid operand size " + operandSize
+                            + " of opcode " + opCode.name() + ".");
+                }
+            }
+            checkLength(script, pos, operandSize, opCode);
+
+            if (opCode == OpCode.SYSCALL) {
+                InteropServiceCode service = InteropServiceCode.valueOfHash(script, pos);
+                fee += getPrice(service, lastInteger);
+            }
+            if (opCode.getValue() >= OpCode.PUSHM1.getValue()
+                    && opCode.getValue() <= OpCode.PUSH16.getValue()) {
+                lastInteger = (long) (opCode.getValue() - OpCode.PUSH0.getValue());
+            } else if (opCode == OpCode.PUSHINT8 || opCode == OpCode.PUSHINT16
+                    || opCode == OpCode.PUSHINT32) {
+                // Sign extension of the little-endian value.
+                int shift = 64 - operandSize * 8;
+                lastInteger = readLittleEndian(script, pos, operandSize) << shift >> shift;
+            } else if (opCode != OpCode.PUSHNULL) {
+                // The multi-signature verification script pushes null between the number of keys
+                // and the syscall.
+                lastInteger = null;
+            }
+            pos += operandSize;
+        }
+        return fee;
+    }
+
+    private static long getPrice(InteropServiceCode service, Long lastInteger) {
+        switch (service) {
+            case NEO_CRYPTO_ECDSA_SECP256R1_CHECKMULTISIG:
+            case NEO_CRYPTO_ECDSA_SECP256K1_CHECKMULTISIG:
+                if (lastInteger == null || lastInteger < 1
+                        || lastInteger > NeoConstants.MAX_PUBLIC_KEYS_PER_MULTISIG_ACCOUNT) {
+                    throw new UnsupportedOperationException("The price of the interop service "
+                            + service.getName() + " depends on the number of signatures, which "
+                            + "is not pushed right before the call.");
+                }
+                return service.getPrice(lastInteger.intValue());
+            default:
+                return service.getPrice();
+        }
+    }
+
+    private static void checkLength(byte[] script, int pos, int length, OpCode opCode) {
+        if (length > script.length - pos) {
+            throw new IllegalArgumentException("The script ends within the operand of opcode "
+                    + opCode.name() + " at position " + (pos - 1) + ".");
+        }
+    }
+
+    private static long readLittleEndian(byte[] script, int pos, int size) {
+        long value = 0;
+        for (int i = size - 1; i >= 0; i--) {
+            value = value << 8 | (script[pos + i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -4,6 +4,9 @@ import io.neow3j.crypto.Hash;
 import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Numeric;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 public enum InteropServiceCode {
 
@@ -88,10 +91,21 @@ public enum InteropServiceCode {
 //    SYSTEM_STORAGECONTEXT_ASREADONLY("1abdce13", 400),
 //    SYSTEM_TRANSACTION_GETHASH("ba9e3027", 400);
 
+    private static final Map<Integer, InteropServiceCode> CODES_BY_HASH = new HashMap<>();
+
+    static {
+        for (InteropServiceCode c : InteropServiceCode.values()) {
+            CODES_BY_HASH.put(toInt(c.hash), c);
+        }
+    }
+
     /* The service's name */
     private String name;
     /* Price in fractions of GAS for executing the service. */
     private Long price;
+    /* The first 4 bytes of the SHA-256 hash of the name. */
+    private byte[] hash;
+    private String hashHex;
 
     /**
      * Constructs a new interop service code.
@@ -104,6 +118,9 @@ public enum InteropServiceCode {
         if (price != null) {
             this.price = (long) price;
         }
+        this.hash = ArrayUtils.getFirstNBytes(
+                Hash.sha256(name.getBytes(StandardCharsets.US_ASCII)), 4);
+        this.hashHex = Numeric.toHexStringNoPrefix(this.hash);
     }
 
     public String getName() {
@@ -116,8 +133,64 @@ public enum InteropServiceCode {
      * @return the hashed code name
      */
     public String getHash() {
-        byte[] sha256 = Hash.sha256(this.getName().getBytes(StandardCharsets.US_ASCII));
-        return Numeric.toHexStringNoPrefix(ArrayUtils.getFirstNBytes(sha256, 4));
+        return this.hashHex;
+    }
+
+    /**
+     * Gets the short hash (4 bytes) of the code's name as it appears in a script after the
+     * {@link OpCode#SYSCALL} opcode.
+     *
+     * @return the hashed code name
+     */
+    public byte[] getHashBytes() {
+        return this.hash.clone();
+    }
+
+    /**
+     * Gets the interop service with the given short hash.
+     *
+     * @param hash The 4 bytes of the hash as they appear in a script after the
+     *             {@link OpCode#SYSCALL} opcode.
+     * @return the interop service.
+     * @throws IllegalArgumentException if no interop service with the given hash exists.
+     */
+    public static InteropServiceCode valueOfHash(byte[] hash) {
+        if (hash.length != 4) {
+            throw new IllegalArgumentException("The hash of an interop service must be 4 bytes "
+                    + "long but was " + hash.length + " bytes.");
+        }
+        return valueOfHash(hash, 0);
+    }
+
+    /**
+     * Gets the interop service with the short hash found at the given offset in a script.
+     *
+     * @param script The script.
+     * @param offset The offset of the 4 bytes of the hash in the script.
+     * @return the interop service.
+     * @throws IllegalArgumentException if no interop service with the given hash exists.
+     */
+    public static InteropServiceCode valueOfHash(byte[] script, int offset) {
+        if (offset < 0 || offset + 4 > script.length) {
+            throw new IllegalArgumentException("The script does not contain 4 bytes at offset "
+                    + offset + ".");
+        }
+        InteropServiceCode c = CODES_BY_HASH.get(toInt(script, offset));
+        if (c == null) {
+            throw new IllegalArgumentException("No interop service found for hash " +
+                    Numeric.toHexStringNoPrefix(Arrays.copyOfRange(script, offset, offset + 4))
+                    + ".");
+        }
+        return c;
+    }
+
+    private static int toInt(byte[] bytes) {
+        return toInt(bytes, 0);
+    }
+
+    private static int toInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16
+                | (bytes[offset + 2] & 0xFF) << 8 | (bytes[offset + 3] & 0xFF);
     }
 
     /**
@@ -141,6 +214,10 @@ public enum InteropServiceCode {
                         + this.getName() + " is not fixed but depends on the number of "
                         + "signatures.");
             default:
+                if (this.price == null) {
+                    throw new UnsupportedOperationException("The price for " + this.toString()
+                            + " is not defined.");
+                }
                 return this.price;
         }
     }
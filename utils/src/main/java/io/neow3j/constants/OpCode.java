@@ -323,6 +323,14 @@ public enum OpCode {
     //endregion
 
 
+    private static final OpCode[] OPCODES = new OpCode[256];
+
+    static {
+        for (OpCode c : OpCode.values()) {
+            OPCODES[c.opCode & 0xFF] = c;
+        }
+    }
+
     private byte opCode;
     private Long price;
 
@@ -339,18 +347,100 @@ public enum OpCode {
         return this.price;
     }
 
+    /**
+     * Gets the size of the operand that follows this opcode in a script. For opcodes with an
+     * operand of variable size, this is 0. See {@link OpCode#getOperandSizePrefix()} for them.
+     *
+     * @return the operand size in bytes.
+     */
+    public int getOperandSize() {
+        switch (this) {
+            case PUSHINT8:
+            case JMP:
+            case JMPIF:
+            case JMPIFNOT:
+            case JMPEQ:
+            case JMPNE:
+            case JMPGT:
+            case JMPGE:
+            case JMPLT:
+            case JMPLE:
+            case CALL:
+                return 1;
+            case PUSHINT16:
+                return 2;
+            case PUSHINT32:
+            case PUSHA:
+            case JMP_L:
+            case JMPIF_L:
+            case JMPIFNOT_L:
+            case JMPEQ_L:
+            case JMPNE_L:
+            case JMPGT_L:
+            case JMPGE_L:
+            case JMPLT_L:
+            case JMPLE_L:
+            case CALL_L:
+            case SYSCALL:
+                return 4;
+            case PUSHINT64:
+                return 8;
+            case PUSHINT128:
+                return 16;
+            case PUSHINT256:
+                return 32;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Gets the size of the prefix that holds the size of the operand of this opcode, e.g. 1 for
+     * {@link OpCode#PUSHDATA1}. For opcodes without an operand of variable size, this is 0.
+     *
+     * @return the size of the operand size prefix in bytes.
+     */
+    public int getOperandSizePrefix() {
+        switch (this) {
+            case PUSHDATA1:
+                return 1;
+            case PUSHDATA2:
+                return 2;
+            case PUSHDATA4:
+                return 4;
+            default:
+                return 0;
+        }
+    }
+
     public static String toHexString(OpCode opCode) {
         return Numeric.toHexStringNoPrefix(opCode.getValue());
     }
 
+    /**
+     * Gets the opcode with the given byte value.
+     *
+     * @param code The byte value.
+     * @return the opcode.
+     * @throws IllegalArgumentException if no opcode with the given value exists.
+     */
     public static OpCode valueOf(byte code) {
-        for (OpCode c : OpCode.values()) {
-            if (c.opCode == code) {
-                return c;
-            }
+        OpCode c = OPCODES[code & 0xFF];
+        if (c == null) {
+            throw new IllegalArgumentException("No Opcode found for byte value " +
+                    Numeric.toHexString(code) + ".");
         }
-        throw new IllegalArgumentException("No Opcode found for byte value " +
-                Numeric.toHexString(code) + ".");
+        return c;
+    }
+
+    /**
+     * Checks if an opcode with the given byte value exists.
+     *
+     * @param code The byte value.
+     * @return true if the opcode exists. False, otherwise.
+     */
+    public static boolean isOpCode(byte code) {
+        return OPCODES[code & 0xFF] != null;
     }
 
     @Override
@@ -0,0 +1,95 @@
+package io.neow3j.contract;
+
+import io.neow3j.model.NeoConfig;
+import io.neow3j.utils.LruCache;
+
+/**
+ * Caches conversions between addresses and script hashes, e.g., for applications that convert
+ * the same addresses over and over again.
+ * <p>
+ * The cache holds at most the given number of conversions and evicts the least recently used
+ * conversion when a further one is cached. The cache is cleared automatically when the address
+ * version in {@link NeoConfig} changes. One cache can be shared by any number of threads.
+ */
+public class AddressCache {
+
+    private final LruCache<String, ScriptHash> scriptHashes;
+    private final LruCache<ScriptHash, String> addresses;
+    private volatile byte addressVersion = NeoConfig.addressVersion();
+
+    /**
+     * Creates a cache that holds up to the given number of conversions.
+     *
+     * @param maxSize the maximum number of cached conversions.
+     */
+    public AddressCache(int maxSize) {
+        this.scriptHashes = new LruCache<>(maxSize);
+        this.addresses = new LruCache<>(maxSize);
+    }
+
+    /**
+     * Gets the script hash of the given address.
+     *
+     * @param address the address.
+     * @return the script hash.
+     * @throws IllegalArgumentException if the address is not valid.
+     * @see ScriptHash#fromAddress(String)
+     */
+    public ScriptHash toScriptHash(String address) {
+        checkAddressVersion();
+        ScriptHash scriptHash = scriptHashes.get(address);
+        if (scriptHash == null) {
+            scriptHash = ScriptHash.fromAddress(address);
+            put(address, scriptHash);
+        }
+        return scriptHash;
+    }
+
+    /**
+     * Gets the address of the given script hash.
+     *
+     * @param scriptHash the script hash.
+     * @return the address.
+     * @see ScriptHash#toAddress()
+     */
+    public String toAddress(ScriptHash scriptHash) {
+        checkAddressVersion();
+        String address = addresses.get(scriptHash);
+        if (address == null) {
+            address = scriptHash.toAddress();
+            put(address, scriptHash);
+        }
+        return address;
+    }
+
+    /**
+     * Gets the number of cached conversions.
+     *
+     * @return the number of conversions.
+     */
+    public int size() {
+        return scriptHashes.size();
+    }
+
+    /**
+     * Removes all cached conversions.
+     */
+    public synchronized void clear() {
+        scriptHashes.clear();
+        addresses.clear();
+    }
+
+    // A conversion is valid in both directions.
+    private synchronized void put(String address, ScriptHash scriptHash) {
+        scriptHashes.put(address, scriptHash);
+        addresses.put(scriptHash, address);
+    }
+
+    private void checkAddressVersion() {
+        byte version = NeoConfig.addressVersion();
+        if (version != this.addressVersion) {
+            clear();
+            this.addressVersion = version;
+        }
+    }
+}
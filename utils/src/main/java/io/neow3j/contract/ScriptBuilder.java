@@ -5,7 +5,6 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import io.neow3j.constants.InteropServiceCode;
 import io.neow3j.constants.OpCode;
 import io.neow3j.utils.BigIntegers;
-import io.neow3j.utils.Numeric;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -72,7 +71,7 @@ public class ScriptBuilder {
 
     public ScriptBuilder sysCall(InteropServiceCode operation) {
         writeByte(OpCode.SYSCALL.getValue());
-        write(Numeric.hexStringToByteArray(operation.getHash()));
+        write(operation.getHashBytes());
         return this;
     }
 
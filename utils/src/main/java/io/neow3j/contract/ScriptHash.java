@@ -6,12 +6,11 @@ import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
 import io.neow3j.io.NeoSerializable;
 import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.model.NeoConfig;
 import io.neow3j.utils.AddressUtils;
 import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Numeric;
 import java.io.IOException;
-import java.math.BigInteger;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -20,16 +19,29 @@ import java.util.List;
  */
 public class ScriptHash extends NeoSerializable implements Comparable<ScriptHash> {
 
-    /**
-     * The script hash is stored as an unsigned integer in little-endian order.
+    /*
+     * The script hash is stored as an unsigned 160-bit integer split into three parts. Each part
+     * holds the bytes of the little-endian byte array at its position, i.e. lo holds bytes 0 to 7,
+     * mid bytes 8 to 15 and hi bytes 16 to 19.
      */
-    private byte[] scriptHash;
+    private long lo;
+    private long mid;
+    private int hi;
+
+    private int hashCode;
+    // Lazily computed forms of the script hash.
+    private String string;
+    private Address address;
 
     /**
      * Constructs a new script hash with 20 zero bytes.
      */
     public ScriptHash() {
-        this.scriptHash = new byte[NeoConstants.SCRIPTHASH_SIZE];
+        set(0, 0, 0);
+    }
+
+    ScriptHash(long lo, long mid, int hi) {
+        set(lo, mid, hi);
     }
 
     /**
@@ -41,7 +53,7 @@ public class ScriptHash extends NeoSerializable implements Comparable<ScriptHash
      */
     public ScriptHash(byte[] scriptHash) {
         checkAndThrowHashLength(scriptHash);
-        this.scriptHash = scriptHash;
+        set(scriptHash);
     }
 
     /**
@@ -53,8 +65,9 @@ public class ScriptHash extends NeoSerializable implements Comparable<ScriptHash
      */
     public ScriptHash(String scriptHash) {
         if (Numeric.isValidHexString(scriptHash)) {
-            this.scriptHash = ArrayUtils.reverseArray(Numeric.hexStringToByteArray(scriptHash));
-            checkAndThrowHashLength(this.scriptHash);
+            byte[] bytes = ArrayUtils.reverseArray(Numeric.hexStringToByteArray(scriptHash));
+            checkAndThrowHashLength(bytes);
+            set(bytes);
         } else {
             throw new IllegalArgumentException("String argument is not hexadecimal.");
         }
@@ -63,7 +76,7 @@ public class ScriptHash extends NeoSerializable implements Comparable<ScriptHash
     @Override
     public void deserialize(BinaryReader reader) throws DeserializationException {
         try {
-            this.scriptHash = reader.readBytes(NeoConstants.SCRIPTHASH_SIZE);
+            set(reader.readBytes(NeoConstants.SCRIPTHASH_SIZE));
         } catch (IOException e) {
             throw new DeserializationException(e);
         }
@@ -71,7 +84,9 @@ public class ScriptHash extends NeoSerializable implements Comparable<ScriptHash
 
     @Override
     public void serialize(BinaryWriter writer) throws IOException {
-        writer.write(this.scriptHash);
+        writer.writeInt64(this.lo);
+        writer.writeInt64(this.mid);
+        writer.writeInt32(this.hi);
     }
 
     @Override
@@ -86,7 +101,15 @@ public class ScriptHash extends NeoSerializable implements Comparable<ScriptHash
      */
     @Override
     public byte[] toArray() {
-        return super.toArray();
+        byte[] bytes = new byte[NeoConstants.SCRIPTHASH_SIZE];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (this.lo >>> (8 * i));
+            bytes[i + 8] = (byte) (this.mid >>> (8 * i));
+        }
+        for (int i = 0; i < 4; i++) {
+            bytes[i + 16] = (byte) (this.hi >>> (8 * i));
+        }
+        return bytes;
     }
 
     /**
@@ -95,7 +118,12 @@ public class ScriptHash extends NeoSerializable implements Comparable<ScriptHash
      * @return the script hash as hex string in big-endian order.
      */
     public String toString() {
-        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(scriptHash));
+        String s = this.string;
+        if (s == null) {
+            s = Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(toArray()));
+            this.string = s;
+        }
+        return s;
     }
 
     /**
@@ -104,7 +132,25 @@ public class ScriptHash extends NeoSerializable implements Comparable<ScriptHash
      * @return the address.
      */
     public String toAddress() {
-        return AddressUtils.scriptHashToAddress(this.scriptHash);
+        Address a = this.address;
+        if (a == null || a.version != NeoConfig.addressVersion()) {
+            a = new Address(NeoConfig.addressVersion(),
+                    AddressUtils.scriptHashToAddress(toArray()));
+            this.address = a;
+        }
+        return a.value;
+    }
+
+    long getLo() {
+        return this.lo;
+    }
+
+    long getMid() {
+        return this.mid;
+    }
+
+    int getHi() {
+        return this.hi;
     }
 
     /**
@@ -157,8 +203,16 @@ public class ScriptHash extends NeoSerializable implements Comparable<ScriptHash
 
     @Override
     public int compareTo(ScriptHash o) {
-        return new BigInteger(1, ArrayUtils.reverseArray(scriptHash))
-            .compareTo(new BigInteger(1, ArrayUtils.reverseArray(o.toArray())));
+        // Compares the script hashes as unsigned integers, starting with the most significant part.
+        int c = Integer.compareUnsigned(this.hi, o.hi);
+        if (c != 0) {
+            return c;
+        }
+        c = Long.compareUnsigned(this.mid, o.mid);
+        if (c != 0) {
+            return c;
+        }
+        return Long.compareUnsigned(this.lo, o.lo);
     }
 
     @Override
@@ -170,11 +224,57 @@ public class ScriptHash extends NeoSerializable implements Comparable<ScriptHash
             return false;
         }
         ScriptHash that = (ScriptHash) o;
-        return Arrays.equals(scriptHash, that.scriptHash);
+        return this.lo == that.lo && this.mid == that.mid && this.hi == that.hi;
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(this.scriptHash);
+        return this.hashCode;
+    }
+
+    private void set(byte[] scriptHash) {
+        long lo = 0;
+        long mid = 0;
+        int hi = 0;
+        for (int i = 7; i >= 0; i--) {
+            lo = lo << 8 | (scriptHash[i] & 0xFF);
+            mid = mid << 8 | (scriptHash[i + 8] & 0xFF);
+        }
+        for (int i = 3; i >= 0; i--) {
+            hi = hi << 8 | (scriptHash[i + 16] & 0xFF);
+        }
+        set(lo, mid, hi);
+    }
+
+    private void set(long lo, long mid, int hi) {
+        this.lo = lo;
+        this.mid = mid;
+        this.hi = hi;
+        // Same as Arrays.hashCode() of the little-endian byte array.
+        int h = 1;
+        for (int i = 0; i < 8; i++) {
+            h = 31 * h + (byte) (lo >>> (8 * i));
+        }
+        for (int i = 0; i < 8; i++) {
+            h = 31 * h + (byte) (mid >>> (8 * i));
+        }
+        for (int i = 0; i < 4; i++) {
+            h = 31 * h + (byte) (hi >>> (8 * i));
+        }
+        this.hashCode = h;
+        this.string = null;
+        this.address = null;
+    }
+
+    // The address of a script hash for the address version it was derived with.
+    private static class Address {
+
+        private final byte version;
+        private final String value;
+
+        private Address(byte version, String value) {
+            this.version = version;
+            this.value = value;
+        }
     }
 }
@@ -0,0 +1,244 @@
+package io.neow3j.contract;
+
+import java.util.Arrays;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A map from script hashes to long values, e.g. to keep the token balances of many accounts in
+ * memory.
+ * <p>
+ * The keys and values are stored in primitive arrays with open addressing, so that an entry takes
+ * about 40 bytes instead of the several objects of a <tt>HashMap&lt;ScriptHash, Long&gt;</tt>
+ * entry. The map is not thread-safe.
+ */
+public class ScriptHashLongMap {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] los;
+    private long[] mids;
+    private int[] his;
+    private long[] values;
+    private boolean[] used;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    public ScriptHashLongMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map that holds the given number of entries without growing.
+     *
+     * @param expectedSize the expected number of entries.
+     */
+    public ScriptHashLongMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size must not be negative.");
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Gets the value of the given script hash.
+     *
+     * @param key          the script hash.
+     * @param defaultValue the value to return if the map does not contain the script hash.
+     * @return the value.
+     */
+    public long getOrDefault(ScriptHash key, long defaultValue) {
+        int slot = find(key.getLo(), key.getMid(), key.getHi());
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Checks if the map contains the given script hash.
+     *
+     * @param key the script hash.
+     * @return true if the map contains the script hash. False, otherwise.
+     */
+    public boolean containsKey(ScriptHash key) {
+        return find(key.getLo(), key.getMid(), key.getHi()) >= 0;
+    }
+
+    /**
+     * Sets the value of the given script hash.
+     *
+     * @param key   the script hash.
+     * @param value the value.
+     */
+    public void put(ScriptHash key, long value) {
+        values[slotFor(key)] = value;
+    }
+
+    /**
+     * Adds the given amount to the value of the given script hash. If the map does not contain the
+     * script hash, it is added with the amount as value.
+     *
+     * @param key    the script hash.
+     * @param amount the amount to add.
+     * @return the new value.
+     */
+    public long add(ScriptHash key, long amount) {
+        int slot = slotFor(key);
+        values[slot] += amount;
+        return values[slot];
+    }
+
+    /**
+     * Removes the given script hash from the map.
+     *
+     * @param key the script hash.
+     * @return true if the map contained the script hash. False, otherwise.
+     */
+    public boolean remove(ScriptHash key) {
+        int slot = find(key.getLo(), key.getMid(), key.getHi());
+        if (slot < 0) {
+            return false;
+        }
+        // Move the following entries of the probe sequence back, so that no lookup stops at the
+        // freed slot too early.
+        int free = slot;
+        int i = slot;
+        while (true) {
+            i = (i + 1) & mask;
+            if (!used[i]) {
+                break;
+            }
+            int home = index(los[i], mids[i], his[i]);
+            boolean stays = free <= i ? free < home && home <= i : free < home || home <= i;
+            if (!stays) {
+                los[free] = los[i];
+                mids[free] = mids[i];
+                his[free] = his[i];
+                values[free] = values[i];
+                free = i;
+            }
+        }
+        used[free] = false;
+        values[free] = 0;
+        size--;
+        return true;
+    }
+
+    /**
+     * Passes each entry of the map to the given consumer.
+     *
+     * @param consumer the consumer.
+     */
+    public void forEach(ObjLongConsumer<ScriptHash> consumer) {
+        for (int i = 0; i < used.length; i++) {
+            if (used[i]) {
+                consumer.accept(new ScriptHash(los[i], mids[i], his[i]), values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    // Gets the slot of the given key and adds the key with value 0 if it isn't in the map yet.
+    private int slotFor(ScriptHash key) {
+        long lo = key.getLo();
+        long mid = key.getMid();
+        int hi = key.getHi();
+        int slot = find(lo, mid, hi);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (size >= threshold) {
+            grow();
+            slot = find(lo, mid, hi);
+        }
+        slot = ~slot;
+        used[slot] = true;
+        los[slot] = lo;
+        mids[slot] = mid;
+        his[slot] = hi;
+        size++;
+        return slot;
+    }
+
+    // Returns the slot of the key or, if the map does not contain it, the bitwise complement of
+    // the free slot to insert it at.
+    private int find(long lo, long mid, int hi) {
+        int i = index(lo, mid, hi);
+        while (used[i]) {
+            if (los[i] == lo && mids[i] == mid && his[i] == hi) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return ~i;
+    }
+
+    private int index(long lo, long mid, int hi) {
+        long h = (lo ^ mid * 0x9E3779B97F4A7C15L ^ hi) * 0xBF58476D1CE4E5B9L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void grow() {
+        if (used.length == MAX_CAPACITY) {
+            throw new IllegalStateException("The map cannot hold more than " + threshold
+                    + " entries.");
+        }
+        long[] oldLos = los;
+        long[] oldMids = mids;
+        int[] oldHis = his;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(oldUsed.length * 2);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                int slot = ~find(oldLos[i], oldMids[i], oldHis[i]);
+                used[slot] = true;
+                los[slot] = oldLos[i];
+                mids[slot] = oldMids[i];
+                his[slot] = oldHis[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        los = new long[capacity];
+        mids = new long[capacity];
+        his = new int[capacity];
+        values = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        // A load factor of 3/4.
+        threshold = capacity - (capacity >>> 2);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long capacity = MIN_CAPACITY;
+        while (capacity - (capacity >>> 2) < expectedSize) {
+            capacity <<= 1;
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("The map cannot hold " + expectedSize
+                    + " entries.");
+        }
+        return (int) capacity;
+    }
+}
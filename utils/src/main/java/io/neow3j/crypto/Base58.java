@@ -38,6 +38,8 @@ import java.util.Arrays;
  * </ul>
  * <p>
  * However, note that the encoding/decoding runs in O(n&sup2;) time, so it is not useful for large data.
+ * To reduce the constant factor, the conversion works on words of several digits at once instead
+ * of single digits.
  * <p>
  * The basic idea of the encoding is to treat the data bytes as a large number represented using
  * base-256 digits, convert the number to be represented using base-58 digits, preserve the exact
@@ -48,6 +50,9 @@ public class Base58 {
     public static final char[] ALPHABET = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz".toCharArray();
     private static final char ENCODED_ZERO = ALPHABET[0];
     private static final int[] INDEXES = new int[128];
+    // The number of base-58 digits that fit into one limb of the encoder.
+    private static final int DIGITS_PER_LIMB = 5;
+    private static final long LIMB_BASE = 58L * 58 * 58 * 58 * 58;
     static {
         Arrays.fill(INDEXES, -1);
         for (int i = 0; i < ALPHABET.length; i++) {
@@ -70,23 +75,45 @@ public class Base58 {
         while (zeros < input.length && input[zeros] == 0) {
             ++zeros;
         }
-        // Convert base-256 digits to base-58 digits (plus conversion to ASCII characters)
-        input = Arrays.copyOf(input, input.length); // since we modify it in-place
-        char[] encoded = new char[input.length * 2]; // upper bound
-        int outputStart = encoded.length;
-        for (int inputStart = zeros; inputStart < input.length; ) {
-            encoded[--outputStart] = ALPHABET[divmod(input, inputStart, 256, 58)];
-            if (input[inputStart] == 0) {
-                ++inputStart; // optimization - skip leading zeros
+        // Convert the input, taken as big-endian 32-bit words, to limbs of 5 base-58 digits. The
+        // limbs are stored least significant first.
+        int maxDigits = (input.length - zeros) * 138 / 100 + 1; // log(256) / log(58) < 1.38
+        int[] limbs = new int[maxDigits / DIGITS_PER_LIMB + 1];
+        int usedLimbs = 0;
+        int wordSize = (input.length - zeros) % 4 == 0 ? 4 : (input.length - zeros) % 4;
+        for (int i = zeros; i < input.length; i += wordSize, wordSize = 4) {
+            long carry = 0;
+            for (int j = i; j < i + wordSize; j++) {
+                carry = carry << 8 | (input[j] & 0xFF);
+            }
+            int shift = wordSize * 8;
+            for (int j = 0; j < usedLimbs; j++) {
+                long t = ((long) limbs[j] << shift) + carry;
+                limbs[j] = (int) (t % LIMB_BASE);
+                carry = t / LIMB_BASE;
+            }
+            while (carry > 0) {
+                limbs[usedLimbs++] = (int) (carry % LIMB_BASE);
+                carry /= LIMB_BASE;
+            }
+        }
+        // Convert the limbs to ASCII characters.
+        char[] encoded = new char[zeros + usedLimbs * DIGITS_PER_LIMB];
+        int pos = encoded.length;
+        for (int j = 0; j < usedLimbs; j++) {
+            int limb = limbs[j];
+            for (int k = 0; k < DIGITS_PER_LIMB; k++) {
+                encoded[--pos] = ALPHABET[limb % 58];
+                limb /= 58;
             }
         }
         // Preserve exactly as many leading encoded zeros in output as there were leading zeros in input.
+        int outputStart = zeros;
         while (outputStart < encoded.length && encoded[outputStart] == ENCODED_ZERO) {
             ++outputStart;
         }
-        while (--zeros >= 0) {
-            encoded[--outputStart] = ENCODED_ZERO;
-        }
+        outputStart -= zeros;
+        Arrays.fill(encoded, outputStart, outputStart + zeros, ENCODED_ZERO);
         // Return encoded string (including encoded leading zeros).
         return new String(encoded, outputStart, encoded.length - outputStart);
     }
@@ -117,53 +144,56 @@ public class Base58 {
         while (zeros < input58.length && input58[zeros] == 0) {
             ++zeros;
         }
-        // Convert base-58 digits to base-256 digits.
-        byte[] decoded = new byte[input.length()];
-        int outputStart = decoded.length;
-        for (int inputStart = zeros; inputStart < input58.length; ) {
-            decoded[--outputStart] = divmod(input58, inputStart, 58, 256);
-            if (input58[inputStart] == 0) {
-                ++inputStart; // optimization - skip leading zeros
+        // Convert the base-58 digits, taken in groups of 5, to unsigned 32-bit words. The words
+        // are stored least significant first.
+        int maxBytes = (input58.length - zeros) * 733 / 1000 + 1; // log(58) / log(256) < 0.733
+        int[] words = new int[maxBytes / 4 + 1];
+        int usedWords = 0;
+        int groupSize = (input58.length - zeros) % DIGITS_PER_LIMB == 0
+                ? DIGITS_PER_LIMB : (input58.length - zeros) % DIGITS_PER_LIMB;
+        for (int i = zeros; i < input58.length; i += groupSize, groupSize = DIGITS_PER_LIMB) {
+            long carry = 0;
+            long factor = 1;
+            for (int j = i; j < i + groupSize; j++) {
+                carry = carry * 58 + input58[j];
+                factor *= 58;
+            }
+            for (int j = 0; j < usedWords; j++) {
+                long t = (words[j] & 0xFFFFFFFFL) * factor + carry;
+                words[j] = (int) t;
+                carry = t >>> 32;
+            }
+            while (carry > 0) {
+                words[usedWords++] = (int) carry;
+                carry >>>= 32;
             }
         }
+        // Convert the words to big-endian bytes.
+        byte[] decoded = new byte[usedWords * 4];
+        for (int j = 0; j < usedWords; j++) {
+            int pos = decoded.length - 4 * (j + 1);
+            decoded[pos] = (byte) (words[j] >>> 24);
+            decoded[pos + 1] = (byte) (words[j] >>> 16);
+            decoded[pos + 2] = (byte) (words[j] >>> 8);
+            decoded[pos + 3] = (byte) words[j];
+        }
         // Ignore extra leading zeroes that were added during the calculation.
+        int outputStart = 0;
         while (outputStart < decoded.length && decoded[outputStart] == 0) {
             ++outputStart;
         }
         // Return decoded data (including original number of leading zeros).
-        return Arrays.copyOfRange(decoded, outputStart - zeros, decoded.length);
+        byte[] result = new byte[zeros + decoded.length - outputStart];
+        System.arraycopy(decoded, outputStart, result, zeros, decoded.length - outputStart);
+        return result;
     }
 
     public static BigInteger decodeToBigInteger(String input) throws AddressFormatException {
         return new BigInteger(1, decode(input));
     }
 
-    /**
-     * Divides a number, represented as an array of bytes each containing a single digit
-     * in the specified base, by the given divisor. The given number is modified in-place
-     * to contain the quotient, and the return value is the remainder.
-     *
-     * @param number the number to divide
-     * @param firstDigit the index within the array of the first non-zero digit
-     *        (this is used for optimization by skipping the leading zeros)
-     * @param base the base in which the number's digits are represented (up to 256)
-     * @param divisor the number to divide by (up to 256)
-     * @return the remainder of the division operation
-     */
-    private static byte divmod(byte[] number, int firstDigit, int base, int divisor) {
-        // this is just long division which accounts for the base of the input digits
-        int remainder = 0;
-        for (int i = firstDigit; i < number.length; i++) {
-            int digit = (int) number[i] & 0xFF;
-            int temp = remainder * base + digit;
-            number[i] = (byte) (temp / divisor);
-            remainder = temp % divisor;
-        }
-        return (byte) remainder;
-    }
-
     public static String base58CheckEncode(byte[] data) {
-        byte[] checksum = Hash.sha256(Hash.sha256(data));
+        byte[] checksum = Hash.hash256(data);
         byte[] buffer = new byte[data.length + 4];
         System.arraycopy(data, 0, buffer, 0, data.length);
         System.arraycopy(checksum, 0, buffer, data.length, 4);
@@ -179,7 +209,7 @@ public class Base58 {
         byte[] data = ArrayUtils.getFirstNBytes(buffer, buffer.length - 4);
         byte[] givenChecksum = ArrayUtils.getLastNBytes(buffer, 4);
 
-        byte[] calculatedChecksum = Hash.sha256(Hash.sha256(data));
+        byte[] calculatedChecksum = Hash.hash256(data);
         byte[] first4BytesCalculatedChecksum = ArrayUtils.getFirstNBytes(calculatedChecksum, 4);
 
         if (!Arrays.equals(givenChecksum, first4BytesCalculatedChecksum)) {
@@ -3,7 +3,9 @@ package io.neow3j.crypto;
 import io.neow3j.utils.Numeric;
 import org.bouncycastle.jcajce.provider.digest.Keccak;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -16,9 +18,39 @@ public class Hash {
         SecurityProviderChecker.addBouncyCastle();
     }
 
+    // Looking up a digest from the security providers is expensive, therefore every thread reuses
+    // its own instances. A digest is reset whenever it is taken, so that a call that failed
+    // after updating it doesn't affect the next hash of the thread.
+    private static final ThreadLocal<MessageDigest> SHA256 =
+            ThreadLocal.withInitial(() -> newDigest("SHA-256"));
+    private static final ThreadLocal<MessageDigest> RIPEMD160 =
+            ThreadLocal.withInitial(() -> newDigest("RipeMD160"));
+
+    private static final int SHA256_LENGTH = 32;
+
     private Hash() {
     }
 
+    private static MessageDigest sha256Digest() {
+        MessageDigest digest = SHA256.get();
+        digest.reset();
+        return digest;
+    }
+
+    private static MessageDigest ripemd160Digest() {
+        MessageDigest digest = RIPEMD160.get();
+        digest.reset();
+        return digest;
+    }
+
+    private static MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Couldn't find a " + algorithm + " provider", e);
+        }
+    }
+
     /**
      * Performs a SHA256 followed by a RIPEMD160.
      *
@@ -26,8 +58,36 @@ public class Hash {
      * @return hash value as byte array
      */
     public static byte[] sha256AndThenRipemd160(byte[] input) {
-        byte[] sha256 = sha256(input);
-        return ripemd160(sha256);
+        return ripemd160Digest().digest(sha256Digest().digest(input));
+    }
+
+    /**
+     * Performs a SHA256 twice on the concatenation of the given inputs, without concatenating
+     * them first.
+     *
+     * @param inputs the data to hash.
+     * @return the hash value.
+     */
+    public static byte[] hash256(byte[]... inputs) {
+        MessageDigest digest = sha256Digest();
+        for (byte[] input : inputs) {
+            digest.update(input);
+        }
+        return digest.digest(digest.digest());
+    }
+
+    /**
+     * Performs a SHA256 twice on the given range of the input.
+     *
+     * @param input  the input.
+     * @param offset the start of the data to hash.
+     * @param length the length of the data to hash.
+     * @return the hash value.
+     */
+    public static byte[] hash256(byte[] input, int offset, int length) {
+        MessageDigest digest = sha256Digest();
+        digest.update(input, offset, length);
+        return digest.digest(digest.digest());
     }
 
     /**
@@ -50,12 +110,7 @@ public class Hash {
      * @throws RuntimeException If we couldn't find any RipeMD160 provider
      */
     public static byte[] ripemd160(byte[] input) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("RipeMD160");
-            return md.digest(input);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Couldn't find a RipeMD160 provider", e);
-        }
+        return ripemd160Digest().digest(input);
     }
 
     /**
@@ -112,21 +167,61 @@ public class Hash {
      * @throws RuntimeException If we couldn't find any SHA-256 provider
      */
     public static byte[] sha256(byte[] input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            return digest.digest(input);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Couldn't find a SHA-256 provider", e);
-        }
+        return sha256Digest().digest(input);
     }
 
+    /**
+     * Generates the SHA-256 digest for the given range of the input without copying it.
+     *
+     * @param input  the input.
+     * @param offset the start of the data to digest.
+     * @param length the length of the data to digest.
+     * @return the hash value.
+     */
     public static byte[] sha256(byte[] input, int offset, int length) {
-        if (offset != 0 || length != input.length) {
-            byte[] array = new byte[length];
-            System.arraycopy(input, offset, array, 0, length);
-            input = array;
+        MessageDigest digest = sha256Digest();
+        digest.update(input, offset, length);
+        return digest.digest();
+    }
+
+    /**
+     * Generates the SHA-256 digest for the remaining bytes of the given buffer. The buffer's
+     * position is advanced to its limit.
+     *
+     * @param input the input.
+     * @return the hash value.
+     */
+    public static byte[] sha256(ByteBuffer input) {
+        MessageDigest digest = sha256Digest();
+        digest.update(input);
+        return digest.digest();
+    }
+
+    /**
+     * Generates the SHA-256 digest for the given range of the input and writes it to the
+     * given output array.
+     *
+     * @param input        the input.
+     * @param offset       the start of the data to digest.
+     * @param length       the length of the data to digest.
+     * @param output       the array to write the 32 byte hash value to.
+     * @param outputOffset the position in the output array to start writing at.
+     * @throws IllegalArgumentException if the output array has not enough space left.
+     */
+    public static void sha256(byte[] input, int offset, int length, byte[] output,
+            int outputOffset) {
+
+        if (outputOffset < 0 || output.length - outputOffset < SHA256_LENGTH) {
+            throw new IllegalArgumentException("The output array needs to have space for "
+                    + SHA256_LENGTH + " bytes.");
+        }
+        MessageDigest digest = sha256Digest();
+        digest.update(input, offset, length);
+        try {
+            digest.digest(output, outputOffset, SHA256_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalArgumentException(e);
         }
-        return sha256(input);
     }
 
 }
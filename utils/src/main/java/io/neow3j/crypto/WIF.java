@@ -20,7 +20,7 @@ public class WIF {
             throw new IllegalArgumentException("Incorrect WIF format.");
         }
 
-        byte[] checksum = Hash.sha256(Hash.sha256(data, 0, data.length - 4));
+        byte[] checksum = Hash.hash256(data, 0, data.length - 4);
 
         for (int i = 0; i < 4; i++) {
             if (data[data.length - 4 + i] != checksum[i]) {
@@ -42,7 +42,7 @@ public class WIF {
 
         byte[] extendenKey = ArrayUtils.concatenate(
                 ArrayUtils.concatenate((byte) 0x80, key), (byte) 0x01);
-        byte[] hash = Hash.sha256(Hash.sha256(extendenKey));
+        byte[] hash = Hash.hash256(extendenKey);
         byte[] checksum = ArrayUtils.getFirstNBytes(hash, 4);
         return Base58.encode(ArrayUtils.concatenate(extendenKey, checksum));
     }
@@ -28,8 +28,8 @@ import io.neow3j.constants.NeoConstants;
 import io.neow3j.constants.OpCode;
 import io.neow3j.io.exceptions.DeserializationException;
 import io.neow3j.utils.BigIntegers;
-import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
@@ -38,22 +38,48 @@ import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import org.bouncycastle.math.ec.ECPoint;
 
+/**
+ * Reads Neo-serialized data in little-endian order.
+ * <p>
+ * The reader either reads from an {@link InputStream} or directly from a {@link ByteBuffer}, e.g.
+ * a heap buffer or a memory-mapped file region. Reading from a buffer avoids the stream overhead
+ * and allows to hand out slices of the input with {@link #readSlice(int)} without copying.
+ */
 public class BinaryReader implements AutoCloseable {
 
+    // Null if this reader reads from a buffer.
     private DataInputStream reader;
+    // Null if this reader reads from a stream.
+    private ByteBuffer input;
+    // Set if the input buffer is big-endian, the primitives then need to be byte-swapped.
+    private boolean swap;
     private byte[] array = new byte[8];
     private ByteBuffer buffer = ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN);
     private int position = 0;
     private int mark = -1;
+    private int inputMark = -1;
 
     public BinaryReader(InputStream stream) {
         this.reader = new DataInputStream(stream);
     }
 
     public BinaryReader(byte[] input) {
-        this(new ByteArrayInputStream(input, 0, input.length));
+        this(ByteBuffer.wrap(input).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    /**
+     * Creates a reader that reads directly from the given buffer, starting at its current
+     * position. The buffer's position is advanced by the number of bytes read. The buffer's byte
+     * order is not changed.
+     *
+     * @param input the buffer to read from.
+     */
+    public BinaryReader(ByteBuffer input) {
+        this.input = input;
+        this.swap = input.order() != ByteOrder.LITTLE_ENDIAN;
     }
 
     public int getPosition() {
@@ -66,64 +92,112 @@ public class BinaryReader implements AutoCloseable {
 
     @Override
     public void close() throws IOException {
-        reader.close();
+        if (reader != null) {
+            reader.close();
+        }
     }
 
     public void mark(int readlimit) {
-        reader.mark(readlimit);
+        if (reader != null) {
+            reader.mark(readlimit);
+        } else {
+            inputMark = input.position();
+        }
         mark = getPosition();
     }
 
     public void reset() throws IOException {
-        reader.reset();
+        if (reader != null) {
+            reader.reset();
+        } else {
+            if (inputMark < 0) {
+                throw new IOException("Reader was not marked.");
+            }
+            input.position(inputMark);
+        }
         position = getMark();
     }
 
 
     public void read(byte[] buffer) throws IOException {
-        reader.readFully(buffer);
+        readFully(buffer, 0, buffer.length);
         position += buffer.length;
     }
 
     public void read(byte[] buffer, int index, int length) throws IOException {
-        reader.readFully(buffer, index, length);
+        readFully(buffer, index, length);
         position += length;
     }
 
     public boolean readBoolean() throws IOException {
-        boolean result = reader.readBoolean();
+        boolean result = nextByte() != 0;
         position += Byte.BYTES;
         return result;
     }
 
     public int readUnsignedByte() throws IOException {
-        int result = reader.readUnsignedByte();
+        int result = Byte.toUnsignedInt(nextByte());
         position += Byte.BYTES;
         return result;
     }
 
     public byte readByteKeepPosition() throws IOException {
-        byte result = reader.readByte();
+        byte result = nextByte();
         return result;
     }
 
     public byte readByte() throws IOException {
-        byte result = reader.readByte();
+        byte result = nextByte();
         position += Byte.BYTES;
         return result;
     }
 
     public byte[] readBytes(int count) throws IOException {
         byte[] buffer = new byte[count];
-        reader.readFully(buffer);
+        readFully(buffer, 0, count);
         position += buffer.length;
         return buffer;
     }
 
+    /**
+     * Reads the given number of bytes as a read-only, little-endian slice of the input.
+     * <p>
+     * If this reader reads from a buffer, the slice shares its content with the buffer and no
+     * bytes are copied. Otherwise, the bytes are read from the stream into a new buffer.
+     *
+     * @param count the number of bytes to read.
+     * @return the slice.
+     * @throws IOException if not enough bytes are available.
+     */
+    public ByteBuffer readSlice(int count) throws IOException {
+        ByteBuffer slice;
+        if (reader != null) {
+            slice = ByteBuffer.wrap(readBytes(count)).asReadOnlyBuffer();
+        } else {
+            require(count);
+            slice = input.slice();
+            slice.limit(count);
+            slice = slice.asReadOnlyBuffer();
+            input.position(input.position() + count);
+            position += count;
+        }
+        return slice.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Reads a variable-length prefixed byte sequence as a read-only slice of the input.
+     *
+     * @param max the maximum allowed length.
+     * @return the slice.
+     * @throws IOException if the length exceeds {@code max} or not enough bytes are available.
+     * @see #readSlice(int)
+     */
+    public ByteBuffer readVarSlice(int max) throws IOException {
+        return readSlice((int) readVarInt(max));
+    }
+
     public double readDouble() throws IOException {
-        reader.readFully(array, 0, 8);
-        position += 8;
-        return buffer.getDouble(0);
+        return Double.longBitsToDouble(readInt64());
     }
 
     /**
@@ -136,11 +210,11 @@ public class BinaryReader implements AutoCloseable {
     public byte[] readEncodedECPoint() throws DeserializationException {
         byte[] ecPoint = new byte[33];
         try {
-            byte encoded = reader.readByte();
+            byte encoded = nextByte();
             position += Byte.BYTES;
             if (encoded == 0x02 || encoded == 0x03) {
                 ecPoint[0] = encoded;
-                reader.readFully(ecPoint, 1, 32);
+                readFully(ecPoint, 1, 32);
                 position += 32;
                 return ecPoint;
             }
@@ -153,7 +227,7 @@ public class BinaryReader implements AutoCloseable {
     public ECPoint readECPoint() throws IOException {
         // based on: https://tools.ietf.org/html/rfc5480#section-2.2
         byte[] encoded;
-        byte fb = reader.readByte();
+        byte fb = nextByte();
         position += Byte.BYTES;
         switch (fb) {
             case 0x00:
@@ -163,13 +237,13 @@ public class BinaryReader implements AutoCloseable {
             case 0x03:
                 encoded = new byte[33];
                 encoded[0] = fb;
-                reader.readFully(encoded, 1, 32);
+                readFully(encoded, 1, 32);
                 position += 32;
                 break;
             case 0x04:
                 encoded = new byte[65];
                 encoded[0] = fb;
-                reader.readFully(encoded, 1, 64);
+                readFully(encoded, 1, 64);
                 position += 64;
                 break;
             default:
@@ -179,15 +253,13 @@ public class BinaryReader implements AutoCloseable {
     }
 
     public float readFloat() throws IOException {
-        reader.readFully(array, 0, 4);
-        position += 4;
-        return buffer.getFloat(0);
+        return Float.intBitsToFloat(readInt());
     }
 
     public int readInt() throws IOException {
-        reader.readFully(array, 0, 4);
+        int result = next(4).getInt();
         position += 4;
-        return buffer.getInt(0);
+        return swap ? Integer.reverseBytes(result) : result;
     }
 
     /**
@@ -200,9 +272,7 @@ public class BinaryReader implements AutoCloseable {
      * @throws IOException if an I/O exception occurs.
      */
     public int readUInt16() throws IOException {
-        reader.readFully(array, 0, 2);
-        position += 2;
-        return Short.toUnsignedInt(buffer.getShort(0));
+        return Short.toUnsignedInt(readShort());
     }
 
     /**
@@ -215,9 +285,7 @@ public class BinaryReader implements AutoCloseable {
      * @throws IOException if an I/O exception occurs.
      */
     public long readUInt32() throws IOException {
-        reader.readFully(array, 0, 4);
-        position += 4;
-        return Integer.toUnsignedLong(buffer.getInt(0));
+        return Integer.toUnsignedLong(readInt());
     }
 
     /**
@@ -227,40 +295,66 @@ public class BinaryReader implements AutoCloseable {
      * @throws IOException if an I/O exception occurs.
      */
     public long readInt64() throws IOException {
-        reader.readFully(array, 0, 8);
+        long result = next(8).getLong();
         position += 8;
-        return buffer.getLong(0);
+        return swap ? Long.reverseBytes(result) : result;
     }
 
     public <T extends NeoSerializable> T readSerializable(Class<T> t)
             throws DeserializationException {
 
         try {
-            T obj = t.newInstance();
-            obj.deserialize(this);
-            return obj;
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new DeserializationException(e);
+            return readSerializable(factory(t));
+        } catch (InstantiationFailure e) {
+            throw new DeserializationException(e.getCause());
         }
     }
 
+    /**
+     * Reads a serializable that is created by the given factory, e.g. {@code Witness::new}.
+     * <p>
+     * This avoids the reflective instantiation of {@link #readSerializable(Class)}.
+     *
+     * @param factory the factory creating an empty instance.
+     * @param <T>     the type of the serializable.
+     * @return the deserialized object.
+     * @throws DeserializationException if the object could not be deserialized.
+     */
+    public <T extends NeoSerializable> T readSerializable(Supplier<T> factory)
+            throws DeserializationException {
+
+        T obj = factory.get();
+        obj.deserialize(this);
+        return obj;
+    }
+
     public <T extends NeoSerializable> List<T> readSerializableListVarBytes(Class<T> t)
             throws DeserializationException {
 
+        try {
+            return readSerializableListVarBytes(factory(t));
+        } catch (InstantiationFailure e) {
+            throw new DeserializationException(e.getCause());
+        }
+    }
+
+    public <T extends NeoSerializable> List<T> readSerializableListVarBytes(Supplier<T> factory)
+            throws DeserializationException {
+
         try {
             int length = (int) readVarInt(0x10000000);
             int bytesRead = 0;
             int initialOffset = getPosition();
             List<T> list = new ArrayList<>();
             while (bytesRead < length) {
-                T objInstance = t.newInstance();
+                T objInstance = factory.get();
                 list.add(objInstance);
                 objInstance.deserialize(this);
                 int currentOffset = getPosition();
                 bytesRead = (currentOffset - initialOffset);
             }
             return list;
-        } catch (IOException | IllegalAccessException | InstantiationException e) {
+        } catch (IOException e) {
             throw new DeserializationException(e);
         }
     }
@@ -268,24 +362,44 @@ public class BinaryReader implements AutoCloseable {
     public <T extends NeoSerializable> List<T> readSerializableList(Class<T> t)
             throws DeserializationException {
 
+        try {
+            return readSerializableList(factory(t));
+        } catch (InstantiationFailure e) {
+            throw new DeserializationException(e.getCause());
+        }
+    }
+
+    public <T extends NeoSerializable> List<T> readSerializableList(Supplier<T> factory)
+            throws DeserializationException {
+
         try {
             int length = (int) readVarInt(0x10000000);
             List<T> list = new ArrayList<>(length);
             for (int i = 0; i < length; i++) {
-                T objInstance = t.newInstance();
+                T objInstance = factory.get();
                 list.add(objInstance);
                 objInstance.deserialize(this);
             }
             return list;
-        } catch (IOException | IllegalAccessException | InstantiationException e) {
+        } catch (IOException e) {
             throw new DeserializationException(e);
         }
     }
 
+    private static <T extends NeoSerializable> Supplier<T> factory(Class<T> t) {
+        return () -> {
+            try {
+                return t.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new InstantiationFailure(e);
+            }
+        };
+    }
+
     public short readShort() throws IOException {
-        reader.readFully(array, 0, 2);
+        short result = next(2).getShort();
         position += 2;
-        return buffer.getShort(0);
+        return swap ? Short.reverseBytes(result) : result;
     }
 
     public byte[] readVarBytes() throws IOException {
@@ -379,15 +493,54 @@ public class BinaryReader implements AutoCloseable {
         throw new DeserializationException("Couldn't parse PUSHINT OpCode");
     }
 
+    private void readFully(byte[] buffer, int index, int length) throws IOException {
+        if (reader != null) {
+            reader.readFully(buffer, index, length);
+        } else {
+            require(length);
+            input.get(buffer, index, length);
+        }
+    }
+
+    private byte nextByte() throws IOException {
+        if (reader != null) {
+            return reader.readByte();
+        }
+        require(1);
+        return input.get();
+    }
+
+    // Gets the buffer from which the next primitive of the given size can be read.
+    private ByteBuffer next(int size) throws IOException {
+        if (reader != null) {
+            reader.readFully(array, 0, size);
+            buffer.clear();
+            return buffer;
+        }
+        require(size);
+        return input;
+    }
+
+    private void require(int length) throws EOFException {
+        if (input.remaining() < length) {
+            throw new EOFException();
+        }
+    }
 
     public static int readUInt16(byte[] bytes) {
-        try (ByteArrayInputStream ms = new ByteArrayInputStream(bytes)) {
-            try (BinaryReader reader = new BinaryReader(ms)) {
-                return reader.readUInt16();
-            }
+        try (BinaryReader reader = new BinaryReader(bytes)) {
+            return reader.readUInt16();
         } catch (IOException e) {
-            // Shouldn't happen because the underlying stream is a ByteArrayInputStream.
-            throw new RuntimeException(e);
+            throw new IllegalArgumentException("The given bytes are too short for a 16-bit "
+                    + "integer.", e);
+        }
+    }
+
+    // Signals the failure of a reflective instantiation through a Supplier.
+    private static class InstantiationFailure extends RuntimeException {
+
+        private InstantiationFailure(ReflectiveOperationException cause) {
+            super(cause);
         }
     }
 }
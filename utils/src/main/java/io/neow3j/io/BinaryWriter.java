@@ -26,56 +26,135 @@ package io.neow3j.io;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.List;
 import org.bouncycastle.math.ec.ECPoint;
 
+/**
+ * Writes Neo-serialized data in little-endian order.
+ * <p>
+ * The writer either writes through to an {@link OutputStream} or directly into a
+ * {@link ByteBuffer}. Writing into a buffer avoids the intermediate stream and copies, which
+ * matters when serializing many objects. Use {@link #BinaryWriter(int)} with the expected size
+ * (e.g. from {@link NeoSerializableInterface#getSize()}) to get a writer that is backed by a heap
+ * buffer that grows if needed.
+ */
 public class BinaryWriter implements AutoCloseable {
 
-    private DataOutputStream writer;
-    private byte[] array = new byte[8];
-    private ByteBuffer buffer = ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN);
+    // Null if this writer writes into a buffer.
+    private final OutputStream stream;
+    // The target buffer or, when writing to a stream, the scratch buffer for primitives.
+    private ByteBuffer buffer;
+    private final boolean growable;
+    // Set if the target buffer is big-endian, the primitives then need to be byte-swapped.
+    private final boolean swap;
 
     public BinaryWriter(OutputStream stream) {
-        this.writer = new DataOutputStream(stream);
+        this.stream = stream;
+        this.buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        this.growable = false;
+        this.swap = false;
+    }
+
+    /**
+     * Creates a writer that writes directly into the given buffer, starting at its current
+     * position. The position is advanced by the number of bytes written. The buffer's byte order
+     * is not changed.
+     *
+     * @param buffer the target buffer.
+     * @throws BufferOverflowException on writing, if the buffer has not enough space left.
+     */
+    public BinaryWriter(ByteBuffer buffer) {
+        this.stream = null;
+        this.buffer = buffer;
+        this.growable = false;
+        this.swap = buffer.order() != ByteOrder.LITTLE_ENDIAN;
+    }
+
+    /**
+     * Creates a writer backed by a heap buffer with the given initial capacity. The buffer grows
+     * if more bytes are written. Retrieve the written bytes with {@link #toByteArray()}.
+     *
+     * @param initialCapacity the initial capacity of the buffer.
+     */
+    public BinaryWriter(int initialCapacity) {
+        this.stream = null;
+        this.buffer = ByteBuffer.allocate(initialCapacity).order(ByteOrder.LITTLE_ENDIAN);
+        this.growable = true;
+        this.swap = false;
     }
 
     @Override
     public void close() throws IOException {
-        writer.close();
+        if (stream != null) {
+            stream.close();
+        }
     }
 
     public void flush() throws IOException {
-        writer.flush();
+        if (stream != null) {
+            stream.flush();
+        }
+    }
+
+    /**
+     * Gets the bytes written by this writer. Only available for writers created with
+     * {@link #BinaryWriter(int)}.
+     * <p>
+     * If exactly as many bytes were written as the initial capacity, the backing array is
+     * returned without copying it.
+     *
+     * @return the written bytes.
+     */
+    public byte[] toByteArray() {
+        if (!growable) {
+            throw new IllegalStateException("Only a writer that owns its buffer can provide the "
+                    + "written bytes.");
+        }
+        byte[] array = buffer.array();
+        if (buffer.position() == array.length) {
+            return array;
+        }
+        return Arrays.copyOf(array, buffer.position());
     }
 
     public void write(byte[] buffer) throws IOException {
-        writer.write(buffer);
+        write(buffer, 0, buffer.length);
     }
 
     public void write(byte[] buffer, int index, int length) throws IOException {
-        writer.write(buffer, index, length);
+        if (stream != null) {
+            stream.write(buffer, index, length);
+            return;
+        }
+        ensureRemaining(length);
+        this.buffer.put(buffer, index, length);
     }
 
     public void writeBoolean(boolean v) throws IOException {
-        writer.writeBoolean(v);
+        writeByte((byte) (v ? 1 : 0));
     }
 
     public void writeByte(byte v) throws IOException {
-        writer.writeByte(v);
+        if (stream != null) {
+            stream.write(v);
+            return;
+        }
+        ensureRemaining(1);
+        buffer.put(v);
     }
 
     public void writeDouble(double v) throws IOException {
-        buffer.putDouble(0, v);
-        writer.write(array, 0, 8);
+        writeLong(Double.doubleToRawLongBits(v));
     }
 
     public void writeECPoint(ECPoint v) throws IOException {
-        writer.write(v.getEncoded(true));
+        write(v.getEncoded(true));
     }
 
     public void writeFixedString(String v, int length) throws IOException {
@@ -89,20 +168,18 @@ public class BinaryWriter implements AutoCloseable {
         if (bytes.length > length) {
             throw new IllegalArgumentException();
         }
-        writer.write(bytes);
+        write(bytes);
         if (bytes.length < length) {
-            writer.write(new byte[length - bytes.length]);
+            write(new byte[length - bytes.length]);
         }
     }
 
     public void writeFloat(float v) throws IOException {
-        buffer.putFloat(0, v);
-        writer.write(array, 0, 4);
+        writeInt(Float.floatToRawIntBits(v));
     }
 
     public void writeInt32(int v) throws IOException {
-        buffer.putInt(0, v);
-        writer.write(array, 0, 4);
+        writeInt(v);
     }
 
     /**
@@ -113,8 +190,7 @@ public class BinaryWriter implements AutoCloseable {
      * @throws IOException if an I/O exception occurs.
      */
     public void writeInt64(long v) throws IOException {
-        buffer.putLong(0, v);
-        writer.write(array, 0, 8);
+        writeLong(v);
     }
 
     /**
@@ -128,16 +204,15 @@ public class BinaryWriter implements AutoCloseable {
      *                                  2^32).
      */
     public void writeUInt32(long v) throws IOException {
-        if (v < 0 || v >= (long) Math.pow(2, 32)) {
+        if (v < 0 || v > 0xFFFFFFFFL) {
             throw new IllegalArgumentException("Value of 32-bit unsigned integer was not in " +
                     "interval [0, 2^32).");
         }
-        buffer.putLong(0, v);
-        writer.write(array, 0, 4);
+        writeInt((int) v);
     }
 
     public void writeSerializableVariableBytes(NeoSerializable v) throws IOException {
-        writeVarInt(v.toArray().length);
+        writeVarInt(v.getSize());
         v.serialize(this);
     }
 
@@ -150,7 +225,7 @@ public class BinaryWriter implements AutoCloseable {
             IOException {
         int sumLength = 0;
         for (int i = 0; i < v.size(); i++) {
-            sumLength += v.get(i).toArray().length;
+            sumLength += v.get(i).getSize();
         }
         writeVarInt(sumLength);
         writeSerializableFixed(v);
@@ -177,17 +252,18 @@ public class BinaryWriter implements AutoCloseable {
      *                                  2^16).
      */
     public void writeUInt16(int v) throws IOException {
-        if (v < 0 || v >= (int) Math.pow(2, 16)) {
+        if (v < 0 || v > 0xFFFF) {
             throw new IllegalArgumentException("Value of 16-bit unsigned integer was not in " +
                     "interval [0, 2^16).");
         }
-        buffer.putInt(0, v);
-        writer.write(array, 0, 2);
+        ensureRemaining(2);
+        buffer.putShort(swap ? Short.reverseBytes((short) v) : (short) v);
+        drainToStream();
     }
 
     public void writeVarBytes(byte[] v) throws IOException {
         writeVarInt(v.length);
-        writer.write(v);
+        write(v);
     }
 
     public void writeVarInt(long v) throws IOException {
@@ -208,4 +284,38 @@ public class BinaryWriter implements AutoCloseable {
         }
     }
 
+    private void writeInt(int v) throws IOException {
+        ensureRemaining(4);
+        buffer.putInt(swap ? Integer.reverseBytes(v) : v);
+        drainToStream();
+    }
+
+    private void writeLong(long v) throws IOException {
+        ensureRemaining(8);
+        buffer.putLong(swap ? Long.reverseBytes(v) : v);
+        drainToStream();
+    }
+
+    private void ensureRemaining(int length) {
+        if (buffer.remaining() >= length) {
+            return;
+        }
+        if (!growable) {
+            throw new BufferOverflowException();
+        }
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + length);
+        ByteBuffer grown = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+
+    // When writing to a stream, primitives are encoded in the scratch buffer and written through.
+    private void drainToStream() throws IOException {
+        if (stream != null) {
+            stream.write(buffer.array(), 0, buffer.position());
+            buffer.clear();
+        }
+    }
+
 }
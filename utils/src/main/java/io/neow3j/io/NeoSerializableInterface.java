@@ -2,9 +2,8 @@ package io.neow3j.io;
 
 import io.neow3j.io.exceptions.DeserializationException;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 public interface NeoSerializableInterface {
@@ -21,13 +20,35 @@ public interface NeoSerializableInterface {
      */
     int getSize();
 
+    /**
+     * Serializes this object to a byte array.
+     * <p>
+     * The array is pre-sized with {@link #getSize()}, so that the serialized data is written into
+     * it directly without any intermediate copies.
+     *
+     * @return the serialized object.
+     */
     default byte[] toArray() {
-        try (ByteArrayOutputStream ms = new ByteArrayOutputStream()) {
-            try (BinaryWriter writer = new BinaryWriter(ms)) {
-                serialize(writer);
-                writer.flush();
-                return ms.toByteArray();
-            }
+        try (BinaryWriter writer = new BinaryWriter(getSize())) {
+            serialize(writer);
+            return writer.toByteArray();
+        } catch (IOException ex) {
+            throw new UnsupportedOperationException(ex);
+        }
+    }
+
+    /**
+     * Serializes this object into the given buffer, starting at its current position. The
+     * position is advanced by {@link #getSize()} bytes.
+     * <p>
+     * This allows to reuse one buffer for serializing many objects.
+     *
+     * @param buffer the buffer to write to.
+     * @throws java.nio.BufferOverflowException if the buffer has not enough space left.
+     */
+    default void serializeInto(ByteBuffer buffer) {
+        try (BinaryWriter writer = new BinaryWriter(buffer)) {
+            serialize(writer);
         } catch (IOException ex) {
             throw new UnsupportedOperationException(ex);
         }
@@ -36,10 +57,8 @@ public interface NeoSerializableInterface {
     static <T extends NeoSerializable> T from(byte[] value, Class<T> t)
             throws DeserializationException {
 
-        try (ByteArrayInputStream ms = new ByteArrayInputStream(value)) {
-            try (BinaryReader reader = new BinaryReader(ms)) {
-                return reader.readSerializable(t);
-            }
+        try (BinaryReader reader = new BinaryReader(value)) {
+            return reader.readSerializable(t);
         } catch (IOException e) {
             throw new DeserializationException(e);
         }
@@ -48,10 +67,8 @@ public interface NeoSerializableInterface {
     static <T extends NeoSerializable> List<T> fromAsList(byte[] value, Class<T> t)
             throws DeserializationException {
 
-        try (ByteArrayInputStream ms = new ByteArrayInputStream(value)) {
-            try (BinaryReader reader = new BinaryReader(ms)) {
-                return reader.readSerializableListVarBytes(t);
-            }
+        try (BinaryReader reader = new BinaryReader(value)) {
+            return reader.readSerializableListVarBytes(t);
         } catch (IOException e) {
             throw new DeserializationException(e);
         }
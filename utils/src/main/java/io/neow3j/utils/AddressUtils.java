@@ -14,25 +14,31 @@ public class AddressUtils {
      * @return whether the address is valid or not
      */
     public static boolean isValidAddress(String address) {
+        return decodeAddress(address) != null;
+    }
+
+    // Decodes the given address and checks its version and checksum. Returns null if the address
+    // is not valid.
+    private static byte[] decodeAddress(String address) {
         byte[] data;
         try {
             data = Base58.decode(address);
         } catch (AddressFormatException e) {
-            return false;
+            return null;
         }
         if (data.length != 25) {
-            return false;
+            return null;
         }
         if (data[0] != NeoConfig.addressVersion()) {
-            return false;
+            return null;
         }
-        byte[] checksum = Hash.sha256(Hash.sha256(data, 0, 21));
+        byte[] checksum = Hash.hash256(data, 0, 21);
         for (int i = 0; i < 4; i++) {
             if (data[data.length - 4 + i] != checksum[i]) {
-                return false;
+                return null;
             }
         }
-        return true;
+        return data;
     }
 
     /**
@@ -42,10 +48,10 @@ public class AddressUtils {
      * @return the script hash byte array in little-endian order.
      */
     public static byte[] addressToScriptHash(String address) {
-        if (!isValidAddress(address)) {
+        byte[] data = decodeAddress(address);
+        if (data == null) {
             throw new IllegalArgumentException("Not a valid NEO address.");
         }
-        byte[] data = Base58.decode(address);
         byte[] buffer = new byte[20];
         System.arraycopy(data, 1, buffer, 0, 20);
         return buffer;
@@ -60,9 +66,12 @@ public class AddressUtils {
      * @return the address
      */
     public static String scriptHashToAddress(byte[] scriptHash) {
-        byte[] script = ArrayUtils.concatenate(NeoConfig.addressVersion(), scriptHash);
-        byte[] checksum = ArrayUtils.getFirstNBytes(Hash.sha256(Hash.sha256(script)), 4);
-        return Base58.encode(ArrayUtils.concatenate(script, checksum));
+        byte[] data = new byte[scriptHash.length + 5];
+        data[0] = NeoConfig.addressVersion();
+        System.arraycopy(scriptHash, 0, data, 1, scriptHash.length);
+        byte[] checksum = Hash.hash256(data, 0, scriptHash.length + 1);
+        System.arraycopy(checksum, 0, data, scriptHash.length + 1, 4);
+        return Base58.encode(data);
     }
 
 }
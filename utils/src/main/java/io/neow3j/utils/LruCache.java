@@ -0,0 +1,187 @@
+package io.neow3j.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A thread-safe cache that evicts the least recently used entries once the total weight of its
+ * entries exceeds a maximum weight.
+ * <p>
+ * By default, every entry weighs 1, i.e., the cache holds up to a maximum number of entries. A
+ * weigher can be given to bound the cache by, e.g., the size of its values instead. Values are
+ * weighed once when they are added, without holding the lock of the cache.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public class LruCache<K, V> {
+
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long evictionCount;
+
+    /**
+     * Creates a cache that holds up to the given number of entries.
+     *
+     * @param maxSize the maximum number of entries.
+     */
+    public LruCache(long maxSize) {
+        this(maxSize, value -> 1);
+    }
+
+    /**
+     * Creates a cache that holds entries up to the given total weight.
+     *
+     * @param maxWeight the maximum total weight of the entries.
+     * @param weigher   the function to weigh the values with. It must not return a negative
+     *                  weight.
+     */
+    public LruCache(long maxWeight, ToLongFunction<? super V> weigher) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("The maximum weight of the cache must be at least "
+                    + "1.");
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Gets the value of the given key and marks it as recently used.
+     *
+     * @param key the key.
+     * @return the value, or null if the key is not cached.
+     */
+    public V get(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            return entry == null ? null : entry.value;
+        }
+    }
+
+    /**
+     * Caches the given value under the given key, replacing a value that is already cached. A
+     * value that weighs more than the maximum weight of the cache is not cached.
+     *
+     * @param key   the key.
+     * @param value the value.
+     * @return true if the value was cached. False, otherwise.
+     */
+    public boolean put(K key, V value) {
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > maxWeight) {
+            return false;
+        }
+        synchronized (entries) {
+            add(key, new Entry<>(value, valueWeight));
+            return true;
+        }
+    }
+
+    /**
+     * Caches the given value if the key is not cached yet. A value that weighs more than the
+     * maximum weight of the cache is not cached.
+     *
+     * @param key   the key.
+     * @param value the value.
+     * @return the cached value of the key, or the given value if it was not cached.
+     */
+    public V putIfAbsent(K key, V value) {
+        long valueWeight = weigher.applyAsLong(value);
+        synchronized (entries) {
+            Entry<V> existing = entries.get(key);
+            if (existing != null) {
+                return existing.value;
+            }
+            if (valueWeight <= maxWeight) {
+                add(key, new Entry<>(value, valueWeight));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Gets the value of the given key or, if it is not cached, computes and caches it. The value
+     * is computed without holding the lock of the cache.
+     *
+     * @param key      the key.
+     * @param function the function to compute the value with. If it returns null, nothing is
+     *                 cached.
+     * @return the value.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = function.apply(key);
+        return value == null ? null : putIfAbsent(key, value);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the total weight of the cached entries.
+     *
+     * @return the weight.
+     */
+    public long weight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    public long maxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Gets the number of entries that were evicted to stay within the maximum weight.
+     *
+     * @return the number of evicted entries.
+     */
+    public long evictionCount() {
+        synchronized (entries) {
+            return evictionCount;
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    private void add(K key, Entry<V> entry) {
+        Entry<V> previous = entries.put(key, entry);
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+        weight += entry.weight;
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            weight -= iterator.next().weight;
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long weight;
+
+        private Entry(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
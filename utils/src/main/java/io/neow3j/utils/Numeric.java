@@ -21,6 +21,21 @@ public final class Numeric {
     private static final String HEX_PREFIX = "0x";
     private static final Pattern HEX_PATTERN = Pattern.compile("^([0-9A-Fa-f]{2})*$");
 
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+    // The value of each ASCII hex character or -1 for any other ASCII character.
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
     private Numeric() {
     }
 
@@ -265,42 +280,97 @@ public final class Numeric {
     }
 
     public static byte[] hexStringToByteArray(String input) {
-        String cleanInput = cleanHexPrefix(input);
-
-        int len = cleanInput.length();
+        return hexStringToByteArray(input, 0, input.length());
+    }
 
+    /**
+     * Decodes the hexadecimal characters in the given range of the character sequence, e.g. of a
+     * string parsed from a JSON response, without copying them first. The range can start with
+     * the "0x" prefix. If the range has an odd number of characters, the first one is decoded
+     * into a byte of its own.
+     *
+     * @param input The character sequence.
+     * @param start The index of the first character.
+     * @param end   The index after the last character.
+     * @return the decoded bytes.
+     */
+    public static byte[] hexStringToByteArray(CharSequence input, int start, int end) {
+        if (end - start > 1 && input.charAt(start) == '0' && input.charAt(start + 1) == 'x') {
+            start += 2;
+        }
+        int len = end - start;
         if (len == 0) {
             return new byte[]{};
         }
 
         byte[] data;
-        int startIdx;
+        int i = start;
+        int j = 0;
         if (len % 2 != 0) {
             data = new byte[(len / 2) + 1];
-            data[0] = (byte) Character.digit(cleanInput.charAt(0), 16);
-            startIdx = 1;
+            data[j++] = (byte) hexValue(input.charAt(i++));
         } else {
             data = new byte[len / 2];
-            startIdx = 0;
         }
-
-        for (int i = startIdx; i < len; i += 2) {
-            data[(i + 1) / 2] = (byte) ((Character.digit(cleanInput.charAt(i), 16) << 4)
-                    + Character.digit(cleanInput.charAt(i + 1), 16));
+        for (; i < end; i += 2) {
+            data[j++] = (byte) ((hexValue(input.charAt(i)) << 4)
+                    + hexValue(input.charAt(i + 1)));
         }
         return data;
     }
 
+    private static int hexValue(char c) {
+        return c < HEX_VALUES.length ? HEX_VALUES[c] : Character.digit(c, 16);
+    }
+
     public static String toHexString(byte[] input, int offset, int length, boolean withPrefix) {
-        StringBuilder stringBuilder = new StringBuilder();
+        int prefixLength = withPrefix ? HEX_PREFIX.length() : 0;
+        char[] chars = new char[prefixLength + length * 2];
         if (withPrefix) {
-            stringBuilder.append("0x");
+            HEX_PREFIX.getChars(0, prefixLength, chars, 0);
         }
+        toHexChars(input, offset, length, chars, prefixLength);
+        return new String(chars);
+    }
+
+    /**
+     * Writes the given bytes as lowercase hexadecimal characters, without prefix, into the given
+     * character array.
+     *
+     * @param input      The bytes.
+     * @param offset     The index of the first byte to write.
+     * @param length     The number of bytes to write.
+     * @param dest       The character array to write to.
+     * @param destOffset The index in the character array to start writing at.
+     * @return the number of characters written, i.e. two per byte.
+     */
+    public static int toHexChars(byte[] input, int offset, int length, char[] dest,
+            int destOffset) {
+        int j = destOffset;
         for (int i = offset; i < offset + length; i++) {
-            stringBuilder.append(String.format("%02x", input[i] & 0xFF));
+            dest[j++] = HEX_CHARS[(input[i] >> 4) & 0x0F];
+            dest[j++] = HEX_CHARS[input[i] & 0x0F];
         }
+        return length * 2;
+    }
 
-        return stringBuilder.toString();
+    /**
+     * Appends the given bytes as lowercase hexadecimal characters, without prefix, to the given
+     * string builder.
+     *
+     * @param builder The string builder.
+     * @param input   The bytes.
+     * @param offset  The index of the first byte to append.
+     * @param length  The number of bytes to append.
+     * @return the string builder.
+     */
+    public static StringBuilder appendHexString(StringBuilder builder, byte[] input, int offset,
+            int length) {
+        builder.ensureCapacity(builder.length() + length * 2);
+        for (int i = offset; i < offset + length; i++) {
+            builder.append(HEX_CHARS[(input[i] >> 4) & 0x0F]).append(HEX_CHARS[input[i] & 0x0F]);
+        }
+        return builder;
     }
 
     public static String toHexString(byte input) {
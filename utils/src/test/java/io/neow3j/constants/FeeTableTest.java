@@ -0,0 +1,90 @@
+package io.neow3j.constants;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.contract.ScriptBuilder;
+import io.neow3j.utils.Numeric;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class FeeTableTest {
+
+    private static final byte[] PUBLIC_KEY = Numeric.hexStringToByteArray(
+            "02163946a133e3d2e0d987fb90cb01b060ed1780f1718e2da28edf13b965fd2b60");
+
+    @Test
+    public void lookUpOpCodesByValue() {
+        for (OpCode c : OpCode.values()) {
+            assertThat(OpCode.valueOf(c.getValue()), is(c));
+            assertThat(FeeTable.getPrice(c.getValue()), is(c.getPrice()));
+        }
+        assertThat(OpCode.isOpCode((byte) 0x06), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getPriceOfUnknownOpCode() {
+        FeeTable.getPrice((byte) 0xFF);
+    }
+
+    @Test
+    public void lookUpInteropServicesByHash() {
+        for (InteropServiceCode c : InteropServiceCode.values()) {
+            assertThat(InteropServiceCode.valueOfHash(c.getHashBytes()), is(c));
+            assertThat(Numeric.toHexStringNoPrefix(c.getHashBytes()), is(c.getHash()));
+        }
+        assertThat(InteropServiceCode.SYSTEM_CONTRACT_CALL.getHash(), is("627d5b52"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lookUpUnknownInteropService() {
+        InteropServiceCode.valueOfHash(new byte[]{0x01, 0x02, 0x03, 0x04});
+    }
+
+    @Test
+    public void calcExecutionFeeOfSingleSigVerificationScript() {
+        byte[] script = ScriptBuilder.buildVerificationScript(PUBLIC_KEY);
+        long expected = OpCode.PUSHDATA1.getPrice()
+                + OpCode.PUSHNULL.getPrice()
+                + OpCode.SYSCALL.getPrice()
+                + InteropServiceCode.NEO_CRYPTO_ECDSA_SECP256R1_VERIFY.getPrice();
+        assertThat(FeeTable.calcExecutionFee(script), is(expected));
+    }
+
+    @Test
+    public void calcExecutionFeeOfMultiSigVerificationScript() {
+        List<byte[]> keys = Arrays.asList(PUBLIC_KEY, PUBLIC_KEY, PUBLIC_KEY);
+        byte[] script = ScriptBuilder.buildVerificationScript(keys, 2);
+        long expected = OpCode.PUSH2.getPrice()
+                + OpCode.PUSHDATA1.getPrice() * 3
+                + OpCode.PUSH3.getPrice()
+                + OpCode.PUSHNULL.getPrice()
+                + OpCode.SYSCALL.getPrice()
+                + InteropServiceCode.NEO_CRYPTO_ECDSA_SECP256R1_CHECKMULTISIG.getPrice(3);
+        assertThat(FeeTable.calcExecutionFee(script), is(expected));
+    }
+
+    @Test
+    public void calcExecutionFeeSkipsOperands() {
+        // PUSHINT16 and PUSHDATA2 with operands that contain invalid opcodes.
+        byte[] script = Numeric.hexStringToByteArray("01ffff0d0300ffffff40");
+        long expected = OpCode.PUSHINT16.getPrice()
+                + OpCode.PUSHDATA2.getPrice()
+                + OpCode.RET.getPrice();
+        assertThat(FeeTable.calcExecutionFee(script), is(expected));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void calcExecutionFeeOfTruncatedScript() {
+        FeeTable.calcExecutionFee(Numeric.hexStringToByteArray("0c05ffff"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void calcExecutionFeeOfMultiSigCallWithoutNumberOfKeys() {
+        FeeTable.calcExecutionFee(new ScriptBuilder()
+                .pushData(PUBLIC_KEY)
+                .sysCall(InteropServiceCode.NEO_CRYPTO_ECDSA_SECP256R1_CHECKMULTISIG)
+                .toArray());
+    }
+}
@@ -0,0 +1,66 @@
+package io.neow3j.contract;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import io.neow3j.model.NeoConfig;
+import org.junit.After;
+import org.junit.Test;
+
+public class AddressCacheTest {
+
+    private static final String ADDRESS = "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y";
+    private static final ScriptHash SCRIPT_HASH =
+            new ScriptHash("e9eed8dc39332032dc22e5d6e86332c50327ba23");
+
+    @After
+    public void tearDown() {
+        NeoConfig.setAddressVersion((byte) 0x17);
+    }
+
+    @Test
+    public void convertInBothDirections() {
+        AddressCache cache = new AddressCache(10);
+        ScriptHash scriptHash = cache.toScriptHash(ADDRESS);
+        assertThat(scriptHash, is(SCRIPT_HASH));
+        assertThat(cache.toScriptHash(ADDRESS), sameInstance(scriptHash));
+        assertThat(cache.toAddress(SCRIPT_HASH), is(ADDRESS));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void doNotCacheMoreThanMaxSize() {
+        AddressCache cache = new AddressCache(1);
+        cache.toAddress(SCRIPT_HASH);
+        String other = cache.toAddress(new ScriptHash());
+        assertThat(other, is(new ScriptHash().toAddress()));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsedConversion() {
+        AddressCache cache = new AddressCache(2);
+        String second = new ScriptHash().toAddress();
+        String third = new ScriptHash("969a77db482f74ce27105f760efa139223431394").toAddress();
+        ScriptHash first = cache.toScriptHash(ADDRESS);
+        ScriptHash evicted = cache.toScriptHash(second);
+        // Makes the second address the least recently used one.
+        cache.toScriptHash(ADDRESS);
+        cache.toScriptHash(third);
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.toScriptHash(ADDRESS), sameInstance(first));
+        assertThat(cache.toScriptHash(second) == evicted, is(false));
+    }
+
+    @Test
+    public void clearWhenAddressVersionChanges() {
+        AddressCache cache = new AddressCache(10);
+        cache.toAddress(SCRIPT_HASH);
+        NeoConfig.setAddressVersion((byte) 0x35);
+        assertThat(cache.toAddress(SCRIPT_HASH), is(SCRIPT_HASH.toAddress()));
+        assertThat(cache.toAddress(SCRIPT_HASH).equals(ADDRESS), is(false));
+        assertThat(cache.size(), is(1));
+    }
+}
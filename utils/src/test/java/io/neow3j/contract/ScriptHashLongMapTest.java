@@ -0,0 +1,64 @@
+package io.neow3j.contract;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+public class ScriptHashLongMapTest {
+
+    private static final ScriptHash SCRIPT_HASH =
+            new ScriptHash("e9eed8dc39332032dc22e5d6e86332c50327ba23");
+
+    @Test
+    public void putGetAndAdd() {
+        ScriptHashLongMap map = new ScriptHashLongMap();
+        assertThat(map.getOrDefault(SCRIPT_HASH, -1), is(-1L));
+        assertThat(map.containsKey(SCRIPT_HASH), is(false));
+
+        map.put(SCRIPT_HASH, 100);
+        assertThat(map.getOrDefault(new ScriptHash(SCRIPT_HASH.toArray()), -1), is(100L));
+        assertThat(map.add(SCRIPT_HASH, -30), is(70L));
+        assertThat(map.add(new ScriptHash(), 5), is(5L));
+        assertThat(map.size(), is(2));
+    }
+
+    @Test
+    public void behaveLikeHashMapWhenGrowingAndRemoving() {
+        Random random = new Random(1);
+        List<ScriptHash> keys = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            byte[] bytes = new byte[20];
+            random.nextBytes(bytes);
+            keys.add(new ScriptHash(bytes));
+        }
+        ScriptHashLongMap map = new ScriptHashLongMap();
+        Map<ScriptHash, Long> expected = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            ScriptHash key = keys.get(random.nextInt(keys.size()));
+            if (random.nextInt(4) == 0) {
+                assertThat(map.remove(key), is(expected.remove(key) != null));
+            } else {
+                map.add(key, i);
+                expected.merge(key, (long) i, Long::sum);
+            }
+        }
+
+        assertThat(map.size(), is(expected.size()));
+        for (ScriptHash key : keys) {
+            assertThat(map.getOrDefault(key, -1), is(expected.getOrDefault(key, -1L)));
+        }
+        Map<ScriptHash, Long> entries = new HashMap<>();
+        map.forEach(entries::put);
+        assertThat(entries, is(expected));
+
+        map.clear();
+        assertThat(map.isEmpty(), is(true));
+        assertThat(map.containsKey(keys.get(0)), is(false));
+    }
+}
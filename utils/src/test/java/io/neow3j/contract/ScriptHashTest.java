@@ -12,6 +12,8 @@ import io.neow3j.crypto.Hash;
 import io.neow3j.io.BinaryWriter;
 import io.neow3j.io.NeoSerializableInterface;
 import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.model.NeoConfig;
+import io.neow3j.utils.AddressUtils;
 import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Numeric;
 import java.io.ByteArrayOutputStream;
@@ -174,6 +176,19 @@ public class ScriptHashTest {
         assertThat(sh3.compareTo(sh2), is(-1));
     }
 
+    @Test
+    public void toAddressWithChangedAddressVersion() {
+        ScriptHash sh = new ScriptHash("e9eed8dc39332032dc22e5d6e86332c50327ba23");
+        assertThat(sh.toAddress(), is("AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y"));
+        try {
+            NeoConfig.setAddressVersion((byte) 0x35);
+            assertThat(sh.toAddress(), is(AddressUtils.scriptHashToAddress(sh.toArray())));
+        } finally {
+            NeoConfig.setAddressVersion((byte) 0x17);
+        }
+        assertThat(sh.toAddress(), is("AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y"));
+    }
+
     @Test
     public void getSize() {
         ScriptHash sh = new ScriptHash("23ba2703c53263e8d6e522dc32203339dcd8eee9");
@@ -18,6 +18,7 @@
 package io.neow3j.crypto;
 
 import io.neow3j.crypto.exceptions.AddressFormatException;
+import io.neow3j.utils.Numeric;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -44,7 +45,9 @@ public class Base58DecodeTest {
         return Arrays.asList(new Object[][]{
                 {"JxF12TrwUP45BMd", "Hello World".getBytes()},
                 {"1", new byte[1]},
-                {"1111", new byte[4]}
+                {"1111", new byte[4]},
+                {"1asM19QXrN7YgzTU8bTmQAy4rFZgWSbEuSHF2vHCTto", Numeric.hexStringToByteArray(
+                        "00264b7095badf04294e7398bde2072c51769bc0e50a2f54799ec3e80d32577c")}
         });
     }
 
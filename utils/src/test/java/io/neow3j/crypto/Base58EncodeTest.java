@@ -17,6 +17,7 @@
 
 package io.neow3j.crypto;
 
+import io.neow3j.utils.Numeric;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -45,7 +46,10 @@ public class Base58EncodeTest {
                 {BigInteger.valueOf(3471844090L).toByteArray(), "16Ho7Hs"},
                 {new byte[1], "1"},
                 {new byte[7], "1111111"},
-                {new byte[0], ""}
+                {new byte[0], ""},
+                {Numeric.hexStringToByteArray(
+                        "00264b7095badf04294e7398bde2072c51769bc0e50a2f54799ec3e80d32577c"),
+                        "1asM19QXrN7YgzTU8bTmQAy4rFZgWSbEuSHF2vHCTto"}
         });
     }
 
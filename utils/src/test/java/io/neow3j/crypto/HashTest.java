@@ -3,8 +3,12 @@ package io.neow3j.crypto;
 import io.neow3j.utils.Numeric;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 public class HashTest {
 
@@ -104,4 +108,50 @@ public class HashTest {
         final String result = Hash.ripemd160(hexStringToHash);
         assertThat(result, is(expected));
     }
+
+    @Test
+    public void testSha256Overloads() {
+        final String expected = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+        final byte[] input = "xabcx".getBytes();
+        assertThat(Numeric.toHexStringNoPrefix(Hash.sha256(input, 1, 3)), is(expected));
+        assertThat(Numeric.toHexStringNoPrefix(Hash.sha256(ByteBuffer.wrap(input, 1, 3))),
+                is(expected));
+
+        byte[] output = new byte[34];
+        Hash.sha256(input, 1, 3, output, 2);
+        assertThat(Numeric.toHexStringNoPrefix(Arrays.copyOfRange(output, 2, 34)), is(expected));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSha256FailsWithTooSmallOutput() {
+        Hash.sha256(new byte[]{0x01}, 0, 1, new byte[33], 2);
+    }
+
+    @Test
+    public void testHashAfterFailedHash() {
+        byte[] input = "Hello World.".getBytes();
+        byte[] expected = Hash.sha256(input);
+        try {
+            Hash.hash256(input, null);
+            fail();
+        } catch (NullPointerException e) {
+            // The digest was updated with the first input before failing.
+        }
+        assertThat(Hash.sha256(input), is(expected));
+        try {
+            Hash.sha256(input, 0, input.length, new byte[32], -1);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+        assertThat(Hash.sha256(input), is(expected));
+    }
+
+    @Test
+    public void testHash256() {
+        byte[] first = "Hello ".getBytes();
+        byte[] second = "World.".getBytes();
+        byte[] expected = Hash.sha256(Hash.sha256("Hello World.".getBytes()));
+        assertThat(Hash.hash256(first, second), is(expected));
+        assertThat(Hash.hash256("xHello World.x".getBytes(), 1, 12), is(expected));
+    }
 }
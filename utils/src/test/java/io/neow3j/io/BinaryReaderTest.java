@@ -5,8 +5,11 @@ import static org.junit.Assert.assertThat;
 
 import io.neow3j.io.exceptions.DeserializationException;
 import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.List;
 import org.junit.Test;
 
 public class BinaryReaderTest extends TestBinaryUtils {
@@ -295,6 +298,65 @@ public class BinaryReaderTest extends TestBinaryUtils {
         assertThat(value, is(749_675_361_041L));
     }
 
+    @Test
+    public void readFromBigEndianBufferInLittleEndianOrder() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) 0xff, 0x39, 0x30, 0x00, 0x00, 0x01});
+        buffer.get();
+        BinaryReader reader = new BinaryReader(buffer);
+        assertThat(reader.readUInt32(), is(12345L));
+        assertThat(reader.getPosition(), is(4));
+        assertThat(buffer.position(), is(5));
+    }
+
+    @Test
+    public void readSliceWithoutCopying() throws IOException {
+        byte[] data = new byte[]{0x03, 0x0a, 0x0b, 0x0c, 0x01};
+        BinaryReader reader = new BinaryReader(data);
+        ByteBuffer slice = reader.readVarSlice(10);
+        assertThat(reader.readByte(), is((byte) 0x01));
+        assertThat(slice.remaining(), is(3));
+        assertThat(slice.isReadOnly(), is(true));
+        data[2] = 0x0f;
+        assertThat(slice.get(1), is((byte) 0x0f));
+    }
+
+    @Test(expected = EOFException.class)
+    public void failReadingBeyondBuffer() throws IOException {
+        new BinaryReader(new byte[]{0x01, 0x02}).readInt();
+    }
+
+    @Test
+    public void readSerializableWithFactory() throws DeserializationException {
+        BinaryReader reader = new BinaryReader(new byte[]{0x02, 0x01, 0x02});
+        List<TestSerializable> list = reader.readSerializableList(TestSerializable::new);
+        assertThat(list.get(0).value, is((byte) 0x01));
+        assertThat(list.get(1).value, is((byte) 0x02));
+    }
+
+    public static class TestSerializable extends NeoSerializable {
+
+        private byte value;
+
+        @Override
+        public void deserialize(BinaryReader reader) throws DeserializationException {
+            try {
+                value = reader.readByte();
+            } catch (IOException e) {
+                throw new DeserializationException(e);
+            }
+        }
+
+        @Override
+        public void serialize(BinaryWriter writer) throws IOException {
+            writer.writeByte(value);
+        }
+
+        @Override
+        public int getSize() {
+            return 1;
+        }
+    }
+
     private void buildBinaryReader(byte[] data) {
         this.testBinaryReader = new BinaryReader(new ByteArrayInputStream(data));
     }
@@ -1,10 +1,13 @@
 package io.neow3j.io;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -159,6 +162,30 @@ public class BinaryWriterTest {
         writer.writeVarInt(-1L);
     }
 
+    @Test
+    public void writeToGrowableBuffer() throws IOException {
+        BinaryWriter bufferWriter = new BinaryWriter(2);
+        bufferWriter.writeUInt16(0x3039);
+        bufferWriter.writeUInt32(1L);
+        bufferWriter.writeVarBytes(new byte[]{0x0a, 0x0b});
+        assertArrayEquals(new byte[]{0x39, 0x30, 0x01, 0x00, 0x00, 0x00, 0x02, 0x0a, 0x0b},
+            bufferWriter.toByteArray());
+    }
+
+    @Test
+    public void writeToBigEndianBufferInLittleEndianOrder() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+        buffer.put((byte) 0x01);
+        new BinaryWriter(buffer).writeInt32(12345);
+        assertArrayEquals(new byte[]{0x01, 0x39, 0x30, 0, 0, 0, 0, 0, 0, 0}, buffer.array());
+        assertEquals(5, buffer.position());
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void failWritingBeyondFixedBuffer() throws IOException {
+        new BinaryWriter(ByteBuffer.allocate(3)).writeInt32(1);
+    }
+
     private void assertAndResetStreamContents(byte[] expected) throws IOException {
         writer.flush();
         byte[] actual = outStream.toByteArray();
@@ -0,0 +1,62 @@
+package io.neow3j.utils;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class LruCacheTest {
+
+    @Test
+    public void evictLeastRecentlyUsedEntry() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.computeIfAbsent("a", k -> "1");
+        cache.computeIfAbsent("b", k -> "2");
+        // Makes "b" the least recently used entry.
+        assertThat(cache.computeIfAbsent("a", k -> "3"), is("1"));
+        cache.computeIfAbsent("c", k -> "4");
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.computeIfAbsent("a", k -> "5"), is("1"));
+        assertThat(cache.computeIfAbsent("b", k -> "6"), is("6"));
+    }
+
+    @Test
+    public void doNotCacheNullValues() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        assertThat(cache.computeIfAbsent("a", k -> null), is(nullValue()));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsedEntriesByWeight() {
+        LruCache<String, String> cache = new LruCache<>(5, String::length);
+        cache.put("a", "11");
+        cache.put("b", "22");
+        // Makes "b" the least recently used entry.
+        assertThat(cache.get("a"), is("11"));
+        cache.put("c", "333");
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.weight(), is(5L));
+        assertThat(cache.evictionCount(), is(1L));
+        assertThat(cache.get("a"), is("11"));
+        assertThat(cache.get("b"), is(nullValue()));
+    }
+
+    @Test
+    public void doNotCacheValuesHeavierThanMaxWeight() {
+        LruCache<String, String> cache = new LruCache<>(2, String::length);
+        cache.put("a", "1");
+        assertThat(cache.put("b", "222"), is(false));
+        assertThat(cache.size(), is(1));
+        assertThat(cache.weight(), is(1L));
+        assertThat(cache.evictionCount(), is(0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failOnInvalidSize() {
+        new LruCache<String, String>(0);
+    }
+}
@@ -148,6 +148,35 @@ public class NumericTest {
         assertThat(Numeric.toHexString(HEX_RANGE_ARRAY), is(HEX_RANGE_STRING));
     }
 
+    @Test
+    public void testHexStringToByteArrayFromRange() {
+        String json = "{\"script\":\"0x0123456789ABCDEF\"}";
+        int start = json.indexOf("0x");
+        int end = json.lastIndexOf('"');
+        assertThat(Numeric.hexStringToByteArray(json, start, end), is(HEX_RANGE_ARRAY));
+        assertThat(Numeric.hexStringToByteArray(json, start + 3, end),
+                is(new byte[]{0x1, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xab, (byte) 0xcd,
+                        (byte) 0xef}));
+        assertThat(Numeric.hexStringToByteArray(json, end, end), is(new byte[]{}));
+    }
+
+    @Test
+    public void testToHexChars() {
+        char[] chars = new char[HEX_RANGE_STRING.length()];
+        chars[0] = '0';
+        chars[1] = 'x';
+        int written = Numeric.toHexChars(HEX_RANGE_ARRAY, 0, HEX_RANGE_ARRAY.length, chars, 2);
+        assertThat(written, is(16));
+        assertThat(new String(chars), is(HEX_RANGE_STRING));
+    }
+
+    @Test
+    public void testAppendHexString() {
+        StringBuilder builder = new StringBuilder("0x");
+        Numeric.appendHexString(builder, HEX_RANGE_ARRAY, 1, 2);
+        assertThat(builder.toString(), is("0x2345"));
+    }
+
     @Test
     public void testToHexStringNoPrefixZeroPadded() {
         assertThat(
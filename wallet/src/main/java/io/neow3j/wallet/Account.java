@@ -1,5 +1,7 @@
 package io.neow3j.wallet;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import io.neow3j.contract.ScriptHash;
 import io.neow3j.crypto.Base64;
 import io.neow3j.crypto.ECKeyPair;
@@ -144,6 +146,13 @@ public class Account {
     public void decryptPrivateKey(String password, ScryptParams scryptParams)
             throws NEP2InvalidFormat, CipherException, NEP2InvalidPassphrase {
 
+        decryptPrivateKey(password.getBytes(UTF_8), scryptParams);
+    }
+
+    // Same as decryptPrivateKey(String, ScryptParams) but with the UTF-8 encoded password.
+    void decryptPrivateKey(byte[] password, ScryptParams scryptParams)
+            throws NEP2InvalidFormat, CipherException, NEP2InvalidPassphrase {
+
         if (this.keyPair != null) {
             return;
         }
@@ -174,6 +183,11 @@ public class Account {
     public void encryptPrivateKey(String password, ScryptParams scryptParams)
             throws CipherException {
 
+        encryptPrivateKey(password.getBytes(UTF_8), scryptParams);
+    }
+
+    // Same as encryptPrivateKey(String, ScryptParams) but with the UTF-8 encoded password.
+    void encryptPrivateKey(byte[] password, ScryptParams scryptParams) throws CipherException {
         if (this.keyPair == null) {
             throw new AccountStateException("The account does not hold a decrypted private key.");
         }
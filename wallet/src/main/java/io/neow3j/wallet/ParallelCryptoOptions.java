@@ -0,0 +1,101 @@
+package io.neow3j.wallet;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Configures how {@link Wallet#decryptAllAccounts(String, ParallelCryptoOptions)} and
+ * {@link Wallet#encryptAllAccounts(String, ParallelCryptoOptions)} spread the NEP-2 key
+ * derivations over multiple threads.
+ * <p>
+ * Every running Scrypt key derivation holds about {@code 128 * r * N} bytes of memory, i.e. 16 MiB
+ * with the default Scrypt parameters. Limit the memory with {@link Builder#maxMemory(long)} to
+ * bound the number of derivations that run at the same time.
+ */
+public class ParallelCryptoOptions {
+
+    private final ForkJoinPool pool;
+    private final long maxMemory;
+    private final ProgressListener progressListener;
+
+    private ParallelCryptoOptions(Builder builder) {
+        this.pool = builder.pool;
+        this.maxMemory = builder.maxMemory;
+        this.progressListener = builder.progressListener;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public long getMaxMemory() {
+        return maxMemory;
+    }
+
+    public ProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    /**
+     * Listens to the progress of encrypting or decrypting the accounts of a wallet.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * Called after each account is processed. Can be called from any thread of the pool.
+         *
+         * @param completed the number of accounts processed so far.
+         * @param total     the number of accounts to process.
+         */
+        void onProgress(int completed, int total);
+    }
+
+    public static class Builder {
+
+        private ForkJoinPool pool;
+        private long maxMemory;
+        private ProgressListener progressListener;
+
+        public Builder() {
+            this.pool = ForkJoinPool.commonPool();
+            this.maxMemory = Long.MAX_VALUE;
+            this.progressListener = (completed, total) -> {
+            };
+        }
+
+        /**
+         * Sets the pool in which the key derivations run. Defaults to the common pool.
+         *
+         * @param pool the pool.
+         * @return this builder.
+         */
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        /**
+         * Sets the memory in bytes that the running key derivations may use together. At least
+         * one key derivation runs at a time, regardless of this limit. Defaults to no limit.
+         *
+         * @param maxMemory the memory limit in bytes.
+         * @return this builder.
+         */
+        public Builder maxMemory(long maxMemory) {
+            if (maxMemory <= 0) {
+                throw new IllegalArgumentException("The memory limit must be positive.");
+            }
+            this.maxMemory = maxMemory;
+            return this;
+        }
+
+        public Builder progressListener(ProgressListener progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        public ParallelCryptoOptions build() {
+            return new ParallelCryptoOptions(this);
+        }
+    }
+}
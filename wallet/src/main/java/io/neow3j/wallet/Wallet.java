@@ -1,6 +1,7 @@
 package io.neow3j.wallet;
 
 import static io.neow3j.crypto.SecurityProviderChecker.addBouncyCastle;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.neow3j.contract.ScriptHash;
@@ -25,6 +26,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -159,6 +163,108 @@ public class Wallet {
         }
     }
 
+    /**
+     * Decrypts the private keys of all accounts in parallel, according to the given options.
+     * <p>
+     * If decrypting an account fails, no further accounts are decrypted and the exception is
+     * rethrown. Accounts that were decrypted until then stay decrypted.
+     *
+     * @param password the passphrase used to decrypt the private keys.
+     * @param options  the options for running the decryption in parallel.
+     * @throws NEP2InvalidFormat     if an encrypted private key has an invalid format.
+     * @throws CipherException       if the decryption fails.
+     * @throws NEP2InvalidPassphrase if the passphrase is not valid.
+     */
+    public void decryptAllAccounts(String password, ParallelCryptoOptions options)
+            throws NEP2InvalidFormat, CipherException, NEP2InvalidPassphrase {
+
+        byte[] passwordBytes = password.getBytes(UTF_8);
+        Exception failure = forAllAccountsInParallel(options,
+                a -> a.decryptPrivateKey(passwordBytes, scryptParams));
+        if (failure instanceof NEP2InvalidFormat) {
+            throw (NEP2InvalidFormat) failure;
+        }
+        if (failure instanceof NEP2InvalidPassphrase) {
+            throw (NEP2InvalidPassphrase) failure;
+        }
+        rethrow(failure);
+    }
+
+    /**
+     * Encrypts the private keys of all accounts in parallel, according to the given options.
+     * <p>
+     * If encrypting an account fails, no further accounts are encrypted and the exception is
+     * rethrown. Accounts that were encrypted until then stay encrypted.
+     *
+     * @param password the passphrase used to encrypt the private keys.
+     * @param options  the options for running the encryption in parallel.
+     * @throws CipherException if the encryption fails.
+     */
+    public void encryptAllAccounts(String password, ParallelCryptoOptions options)
+            throws CipherException {
+
+        byte[] passwordBytes = password.getBytes(UTF_8);
+        rethrow(forAllAccountsInParallel(options,
+                a -> a.encryptPrivateKey(passwordBytes, scryptParams)));
+    }
+
+    private Exception forAllAccountsInParallel(ParallelCryptoOptions options,
+            AccountOperation operation) {
+
+        List<Account> accountList = new ArrayList<>(accounts.values());
+        int total = accountList.size();
+        // Each worker runs one key derivation at a time, so the number of workers bounds the
+        // memory used.
+        long workersInMemory = Math.max(1, options.getMaxMemory() / getScryptMemory());
+        int workers = (int) Math.min(Math.min(options.getPool().getParallelism(), total),
+                workersInMemory);
+
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(options.getPool().submit(() -> {
+                int index;
+                while (failure.get() == null && (index = nextIndex.getAndIncrement()) < total) {
+                    try {
+                        operation.apply(accountList.get(index));
+                    } catch (Exception e) {
+                        failure.compareAndSet(null, e);
+                        return;
+                    }
+                    options.getProgressListener().onProgress(completed.incrementAndGet(), total);
+                }
+            }));
+        }
+        tasks.forEach(ForkJoinTask::join);
+        return failure.get();
+    }
+
+    // The memory held by one Scrypt key derivation, mainly its N blocks of 128 * r bytes.
+    private long getScryptMemory() {
+        return 128L * scryptParams.getR() * (scryptParams.getN() + scryptParams.getP());
+    }
+
+    private static void rethrow(Exception failure) throws CipherException {
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof CipherException) {
+            throw (CipherException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        throw new IllegalStateException(failure);
+    }
+
+    @FunctionalInterface
+    private interface AccountOperation {
+
+        void apply(Account account) throws Exception;
+    }
+
     public NEP6Wallet toNEP6Wallet() {
         List<NEP6Account> accts = this.accounts.values().stream()
                 .map(Account::toNEP6Account)
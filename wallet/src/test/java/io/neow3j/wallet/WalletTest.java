@@ -18,6 +18,7 @@ import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import io.neow3j.contract.ScriptHash;
 import io.neow3j.crypto.ECKeyPair;
 import io.neow3j.crypto.NEP2;
+import io.neow3j.crypto.ScryptParams;
 import io.neow3j.crypto.exceptions.CipherException;
 import io.neow3j.crypto.exceptions.NEP2InvalidFormat;
 import io.neow3j.crypto.exceptions.NEP2InvalidPassphrase;
@@ -36,7 +37,10 @@ import java.security.InvalidAlgorithmParameterException;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -296,6 +300,54 @@ public class WalletTest {
         assertThat(w.getAccounts().get(1).getECKeyPair(), nullValue());
     }
 
+    @Test
+    public void encryptAndDecryptWalletInParallel() throws Exception {
+        Account[] accounts = new Account[6];
+        ECKeyPair[] keyPairs = new ECKeyPair[accounts.length];
+        accounts[0] = Account.fromECKeyPair(ECKeyPair.createEcKeyPair()).isDefault().build();
+        keyPairs[0] = accounts[0].getECKeyPair();
+        for (int i = 1; i < accounts.length; i++) {
+            accounts[i] = Account.createAccount();
+            keyPairs[i] = accounts[i].getECKeyPair();
+        }
+        Wallet w = new Wallet.Builder()
+                .accounts(accounts)
+                .scryptParams(new ScryptParams(256, 1, 1))
+                .build();
+        ForkJoinPool pool = new ForkJoinPool(3);
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+        ParallelCryptoOptions options = new ParallelCryptoOptions.Builder()
+                .pool(pool)
+                .maxMemory(2 * 128 * 257)
+                .progressListener((completed, total) -> progress.add(completed))
+                .build();
+
+        w.encryptAllAccounts("pw", options);
+        assertThat(progress, containsInAnyOrder(1, 2, 3, 4, 5, 6));
+        for (Account a : accounts) {
+            assertThat(a.getECKeyPair(), nullValue());
+            assertThat(a.getEncryptedPrivateKey(), notNullValue());
+        }
+
+        w.decryptAllAccounts("pw", options);
+        for (int i = 0; i < accounts.length; i++) {
+            assertThat(accounts[i].getECKeyPair(), is(keyPairs[i]));
+        }
+        pool.shutdown();
+    }
+
+    @Test(expected = NEP2InvalidPassphrase.class)
+    public void failDecryptingWalletInParallelWithWrongPassword() throws Exception {
+        Wallet w = new Wallet.Builder()
+                .accounts(Account.fromECKeyPair(ECKeyPair.createEcKeyPair()).isDefault().build(),
+                        Account.createAccount())
+                .scryptParams(new ScryptParams(256, 1, 1))
+                .build();
+        ParallelCryptoOptions options = new ParallelCryptoOptions.Builder().build();
+        w.encryptAllAccounts("pw", options);
+        w.decryptAllAccounts("wrong", options);
+    }
+
     @Rule
     public WireMockRule wireMockRule = new WireMockRule();
 